@@ -1,7 +1,7 @@
 package com.statoverflow.status.domain.attribute.dto;
 
+import com.statoverflow.status.domain.master.catalog.LevelCurveIndex;
 import com.statoverflow.status.domain.master.entity.Attribute;
-import com.statoverflow.status.domain.master.entity.AttributeLevel;
 import com.statoverflow.status.domain.master.enums.AttributeType;
 import com.statoverflow.status.domain.users.entity.UsersAttributeProgress;
 
@@ -17,16 +17,20 @@ public record AttributesReturnDto(
     Long exp,
     Long expToNextLevel) {
 
-    public static AttributesReturnDto getLevel(UsersAttributeProgress attributeProgress, AttributeLevel levelInfo, Long baseExp) {
+    public static AttributesReturnDto of(UsersAttributeProgress attributeProgress, LevelCurveIndex.Curve curve) {
+
+        Attribute attribute = attributeProgress.getAttribute();
+        long totalExp = attributeProgress.getTotalExp();
+        int index = curve.indexOf(totalExp);
 
         return new AttributesReturnDto(
-            attributeProgress.getAttribute().getId(),
-            attributeProgress.getAttribute().getName(),
-            attributeProgress.getAttribute().getType(),
-            attributeProgress.getAttribute().getDescription(),
-            levelInfo.getId().getLevel(),
-            attributeProgress.getTotalExp() - baseExp,
-            levelInfo.getXpRequired() - attributeProgress.getTotalExp()
+            attribute.getId(),
+            attribute.getName(),
+            attribute.getType(),
+            attribute.getDescription(),
+            curve.level(index),
+            totalExp - curve.baseExp(index),
+            Math.max(0L, curve.xpRequired(index) - totalExp)
         );
     }
 
@@ -0,0 +1,15 @@
+package com.statoverflow.status.domain.attribute.dto;
+
+// 경험치 증가 UPDATE ... RETURNING 결과 (level은 갱신 전 저장된 값)
+public interface ExpGrantResult {
+
+	Long getId();
+
+	Integer getAttributeId();
+
+	String getAttributeType();
+
+	Long getTotalExp();
+
+	Integer getLevel();
+}
@@ -1,8 +1,28 @@
 package com.statoverflow.status.domain.attribute.repository;
 
+import java.time.LocalDateTime;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.statoverflow.status.domain.users.entity.UsersAttributeLog;
 
 public interface UsersAttributeLogRepository extends JpaRepository<UsersAttributeLog, Long> {
+
+	// 보상 속성들의 경험치 로그를 한 번의 다중 행 INSERT로 기록
+	@Modifying
+	@Query(value = "INSERT INTO users_attribute_log (users_id, attribute_id, matching_id, exp, source_type, created_at) " +
+		"SELECT :userId, r.attribute_id, :matchingId, r.exp, :sourceType, :createdAt " +
+		"FROM unnest(CAST(:attributeIds AS integer[]), CAST(:exps AS integer[])) AS r(attribute_id, exp)",
+		nativeQuery = true)
+	int insertAll(
+		@Param("userId") Long userId,
+		@Param("matchingId") Long matchingId,
+		@Param("sourceType") String sourceType,
+		@Param("createdAt") LocalDateTime createdAt,
+		@Param("attributeIds") Integer[] attributeIds,
+		@Param("exps") Integer[] exps
+	);
 }
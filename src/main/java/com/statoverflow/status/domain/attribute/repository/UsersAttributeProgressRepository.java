@@ -1,9 +1,14 @@
 package com.statoverflow.status.domain.attribute.repository;
 
+import com.statoverflow.status.domain.attribute.dto.ExpGrantResult;
 import com.statoverflow.status.domain.users.entity.UsersAttributeProgress;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -12,4 +17,38 @@ public interface UsersAttributeProgressRepository extends JpaRepository<UsersAtt
     List<UsersAttributeProgress> findByUserIdOrderByAttributeId(Long userId);
 
 	UsersAttributeProgress findByUserIdAndAttributeId(Long usersId, int attributeId);
+
+	List<UsersAttributeProgress> findByUserIdIn(List<Long> userIds);
+
+	// 보상 속성들의 경험치를 원자적으로 증가시키고 갱신된 누적 경험치를 반환 (동시 완료 시 유실 방지)
+	// 동시 지급끼리 교착되지 않도록 대상 행을 attribute_id 순으로 먼저 잠급니다.
+	@Query(value = "WITH locked AS (" +
+		"SELECT p.id FROM users_attribute_progress p " +
+		"WHERE p.users_id = :userId AND p.attribute_id = ANY(CAST(:attributeIds AS integer[])) " +
+		"ORDER BY p.attribute_id FOR UPDATE) " +
+		"UPDATE users_attribute_progress p " +
+		"SET total_exp = p.total_exp + r.exp, updated_at = :updatedAt " +
+		"FROM locked l, unnest(CAST(:attributeIds AS integer[]), CAST(:exps AS integer[])) AS r(attribute_id, exp) " +
+		"JOIN attribute a ON a.id = r.attribute_id " +
+		"WHERE p.id = l.id AND p.attribute_id = r.attribute_id " +
+		"RETURNING p.id AS \"id\", p.attribute_id AS \"attributeId\", a.type AS \"attributeType\", " +
+		"p.total_exp AS \"totalExp\", p.level AS \"level\"",
+		nativeQuery = true)
+	List<ExpGrantResult> addTotalExp(
+		@Param("userId") Long userId,
+		@Param("updatedAt") LocalDateTime updatedAt,
+		@Param("attributeIds") Integer[] attributeIds,
+		@Param("exps") Integer[] exps
+	);
+
+	@Modifying
+	@Query("UPDATE UsersAttributeProgress p SET p.level = :level WHERE p.id = :id")
+	int updateLevel(@Param("id") Long id, @Param("level") Integer level);
+
+	// 정합성 보정: 읽은 뒤 누적 경험치와 레벨이 바뀌지 않은 경우에만 레벨을 고칩니다.
+	@Modifying
+	@Query("UPDATE UsersAttributeProgress p SET p.level = :level " +
+		"WHERE p.id = :id AND p.totalExp = :totalExp AND p.level = :oldLevel")
+	int correctLevel(@Param("id") Long id, @Param("totalExp") Long totalExp,
+		@Param("oldLevel") Integer oldLevel, @Param("level") Integer level);
 }
@@ -1,6 +1,10 @@
 package com.statoverflow.status.domain.attribute.service;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import org.springframework.context.ApplicationEventPublisher;
@@ -8,17 +12,20 @@ import org.springframework.stereotype.Service;
 
 import com.statoverflow.status.domain.attribute.dto.AttributeDto;
 import com.statoverflow.status.domain.attribute.dto.AttributesReturnDto;
-import com.statoverflow.status.domain.attribute.repository.AttributeRepository;
+import com.statoverflow.status.domain.attribute.dto.ExpGrantResult;
 import com.statoverflow.status.domain.attribute.repository.UsersAttributeLogRepository;
 import com.statoverflow.status.domain.attribute.repository.UsersAttributeProgressRepository;
-import com.statoverflow.status.domain.master.entity.AttributeLevel;
-import com.statoverflow.status.domain.master.repository.AttributeLevelRepository;
+import com.statoverflow.status.domain.master.catalog.LevelCurveIndex;
+import com.statoverflow.status.domain.master.enums.AttributeType;
 import com.statoverflow.status.domain.quest.entity.UsersMainQuest;
 import com.statoverflow.status.domain.quest.entity.UsersSubQuest;
+import com.statoverflow.status.domain.users.dto.TierDto;
 import com.statoverflow.status.domain.users.entity.Users;
-import com.statoverflow.status.domain.users.entity.UsersAttributeLog;
 import com.statoverflow.status.domain.users.entity.UsersAttributeProgress;
 import com.statoverflow.status.domain.users.enums.SourceType;
+import com.statoverflow.status.domain.users.repository.UsersRepository;
+import com.statoverflow.status.global.error.ErrorType;
+import com.statoverflow.status.global.exception.CustomException;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -30,30 +37,21 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class AttributeServiceImpl implements AttributeService {
 
-    private final AttributeRepository attributeRepository;
     private final UsersAttributeProgressRepository usersAttributeProgressRepository;
     private final UsersAttributeLogRepository usersAttributeLogRepository;
     private final ApplicationEventPublisher eventPublisher;
-    private final AttributeLevelRepository attributeLevelRepository;
+    private final UsersRepository usersRepository;
+    private final LevelCurveIndex levelCurveIndex;
+    private final Clock clock;
 
     @Override
     public List<AttributesReturnDto> getAttributes(Long userId) {
         List<UsersAttributeProgress> attributes = usersAttributeProgressRepository.findByUserIdOrderByAttributeId(userId);
 
+        // 레벨 구간은 메모리 인덱스에서 이진 탐색으로 계산합니다.
         return attributes.stream()
-            .map(attributeProgress -> {
-                AttributeLevel levelInfo = attributeLevelRepository
-                    .findTopByIdTypeAndXpRequiredGreaterThanOrderByXpRequiredAsc(attributeProgress.getAttribute().getType(), attributeProgress.getTotalExp());
-
-                Long baseExp = attributeLevelRepository
-                    .findByIdTypeAndIdLevel(levelInfo.getId().getType(), levelInfo.getId().getLevel()-1)
-                    .map(AttributeLevel::getXpRequired)
-                    .orElse(0L);
-
-                log.debug("levelInfo : {}, baseExp : {}", levelInfo.getXpRequired(), baseExp);
-
-                return AttributesReturnDto.getLevel(attributeProgress, levelInfo, baseExp);
-            })
+            .map(attributeProgress -> AttributesReturnDto.of(attributeProgress,
+                levelCurveIndex.attributeCurve(attributeProgress.getAttribute().getType())))
             .collect(Collectors.toList());
     }
 
@@ -74,24 +72,64 @@ public class AttributeServiceImpl implements AttributeService {
 			sourceType = null;
 		}
 
-		// 경험치 로그
-        attributes.forEach(attribute -> {
-
-            usersAttributeLogRepository.save(
-                UsersAttributeLog.builder()
-                    .user(user)
-                    .attribute(attributeRepository.findById(attribute.id()).orElseThrow())
-                    .matchingId(matchingId)
-                    .exp(attribute.exp())
-                    .sourceType(sourceType)
-                    .build());
+        if (attributes.isEmpty()) {
+            return;
+        }
+
+        // 같은 속성이 여러 번 포함되어도 한 행에 합산되도록 속성 ID 순으로 묶습니다.
+        Map<Integer, Integer> expByAttribute = new TreeMap<>();
+        attributes.forEach(attribute -> expByAttribute.merge(attribute.id(), attribute.exp(), Integer::sum));
+
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        // 경험치 로그 (단일 다중 행 INSERT)
+        usersAttributeLogRepository.insertAll(
+            user.getId(),
+            matchingId,
+            sourceType == null ? null : sourceType.name(),
+            now,
+            attributes.stream().map(AttributeDto::id).toArray(Integer[]::new),
+            attributes.stream().map(AttributeDto::exp).toArray(Integer[]::new));
+
+        // 누적 경험치 증가 (단일 UPDATE ... RETURNING)
+        List<ExpGrantResult> results = usersAttributeProgressRepository.addTotalExp(
+            user.getId(),
+            now,
+            expByAttribute.keySet().toArray(Integer[]::new),
+            expByAttribute.values().toArray(Integer[]::new));
+
+        if (results.size() != expByAttribute.size()) {
+            throw new CustomException(ErrorType.RESOURCE_NOT_FOUND);
+        }
+
+        int levelDelta = 0;
+        for (ExpGrantResult result : results) {
+            levelDelta += applyLevel(result);
+        }
+
+        // 레벨 구간을 넘은 경우에만 레벨 합계와 티어를 갱신합니다.
+        if (levelDelta != 0) {
+            applyTier(user.getId(), levelDelta);
+        }
 
-            UsersAttributeProgress attributeProgress = usersAttributeProgressRepository.findByUserIdAndAttributeId(user.getId(), attribute.id());
-            attributeProgress.setTotalExp(attributeProgress.getTotalExp() + attribute.exp());
+        log.debug("경험치 추가 완료");
+    }
 
-        });
+    // 누적 경험치에 맞게 레벨을 갱신하고 변화량을 반환합니다.
+    private int applyLevel(ExpGrantResult result) {
+        int level = levelCurveIndex.levelOf(AttributeType.valueOf(result.getAttributeType()), result.getTotalExp());
+        int delta = level - result.getLevel();
+        if (delta != 0) {
+            usersAttributeProgressRepository.updateLevel(result.getId(), level);
+        }
+        return delta;
+    }
 
-        log.debug("경험치 추가 완료");
+    private void applyTier(Long userId, int levelDelta) {
+        int levelSum = usersRepository.addLevelSum(userId, levelDelta);
+        TierDto tier = levelCurveIndex.tierOf(levelSum);
+        usersRepository.updateTier(userId, tier.tier(), tier.level());
+        log.debug("레벨 합계 갱신: userId={}, levelSum={}, tier={} {}", userId, levelSum, tier.tier(), tier.level());
     }
 
 
@@ -0,0 +1,102 @@
+package com.statoverflow.status.domain.attribute.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.statoverflow.status.domain.attribute.repository.UsersAttributeProgressRepository;
+import com.statoverflow.status.domain.master.catalog.LevelCurveIndex;
+import com.statoverflow.status.domain.users.dto.TierDto;
+import com.statoverflow.status.domain.users.entity.Users;
+import com.statoverflow.status.domain.users.entity.UsersAttributeProgress;
+import com.statoverflow.status.domain.users.repository.UsersRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 저장된 레벨/티어가 total_exp에서 계산한 값과 일치하는지 점검하고, 어긋난 행을 바로잡습니다.
+ * 사용자 ID 순으로 CHUNK_SIZE씩(키셋 페이징) 나누어 각 청크를 별도 트랜잭션으로 처리합니다.
+ *
+ * 보정은 읽은 값이 그대로일 때만 적용되는 조건부 UPDATE로 수행하므로,
+ * 동시에 경험치가 지급되어 값이 바뀐 행은 건드리지 않고 다음 점검으로 넘깁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LevelReconciliationService {
+
+	private static final int CHUNK_SIZE = 500;
+
+	private final UsersRepository usersRepository;
+	private final UsersAttributeProgressRepository usersAttributeProgressRepository;
+	private final LevelCurveIndex levelCurveIndex;
+	private final TransactionTemplate transactionTemplate;
+
+	// 보정한 사용자 수를 반환합니다.
+	public int reconcile() {
+		return reconcile(0L, Long.MAX_VALUE);
+	}
+
+	// (fromUserId, toUserId] 사용자만 점검하고, 보정한 사용자 수를 반환합니다.
+	public int reconcile(long fromUserId, long toUserId) {
+		int fixed = 0;
+		long afterId = fromUserId;
+
+		while (true) {
+			List<Long> ids = usersRepository.findIdsAfter(afterId, toUserId, CHUNK_SIZE);
+			if (ids.isEmpty()) {
+				break;
+			}
+			Integer chunkFixed = transactionTemplate.execute(status -> reconcileChunk(ids));
+			fixed += chunkFixed != null ? chunkFixed : 0;
+			afterId = ids.get(ids.size() - 1);
+		}
+
+		return fixed;
+	}
+
+	private int reconcileChunk(List<Long> userIds) {
+		List<Users> users = usersRepository.findAllById(userIds);
+		Map<Long, List<UsersAttributeProgress>> progressByUser = usersAttributeProgressRepository
+			.findByUserIdIn(userIds)
+			.stream()
+			.collect(Collectors.groupingBy(progress -> progress.getUser().getId()));
+
+		int fixed = 0;
+		for (Users user : users) {
+			int levelSum = 0;
+			boolean mismatched = false;
+			// 레벨 보정이 하나라도 경합으로 건너뛰어지면 레벨 합계도 다음 점검으로 미룹니다.
+			boolean levelsSettled = true;
+
+			for (UsersAttributeProgress progress : progressByUser.getOrDefault(user.getId(), List.of())) {
+				int level = levelCurveIndex.levelOf(progress.getAttribute().getType(), progress.getTotalExp());
+				if (!Integer.valueOf(level).equals(progress.getLevel())) {
+					levelsSettled &= usersAttributeProgressRepository.correctLevel(
+						progress.getId(), progress.getTotalExp(), progress.getLevel(), level) == 1;
+					mismatched = true;
+				}
+				levelSum += level - 1;
+			}
+
+			TierDto tier = levelCurveIndex.tierOf(levelSum);
+			if (levelsSettled && (!Integer.valueOf(levelSum).equals(user.getLevelSum())
+				|| tier.tier() != user.getTier()
+				|| !Integer.valueOf(tier.level()).equals(user.getTierLevel()))) {
+				usersRepository.correctLevelSum(user.getId(), user.getLevelSum(), levelSum, tier.tier(), tier.level());
+				mismatched = true;
+			}
+
+			if (mismatched) {
+				log.warn("레벨/티어 불일치 보정: userId={}, levelSum={}, tier={} {}",
+					user.getId(), levelSum, tier.tier(), tier.level());
+				fixed++;
+			}
+		}
+		return fixed;
+	}
+}
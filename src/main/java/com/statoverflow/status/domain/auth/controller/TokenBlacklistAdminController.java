@@ -0,0 +1,25 @@
+package com.statoverflow.status.domain.auth.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.statoverflow.status.domain.auth.dto.TokenBlacklistStatsDto;
+import com.statoverflow.status.domain.auth.service.TokenBlacklistService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+public class TokenBlacklistAdminController {
+
+	private final TokenBlacklistService tokenBlacklistService;
+
+	// 예: GET /admin/token-blacklist/stats
+	@GetMapping(value = "/token-blacklist/stats", produces = MediaType.APPLICATION_JSON_VALUE)
+	public TokenBlacklistStatsDto stats() {
+		return tokenBlacklistService.getStats();
+	}
+}
@@ -0,0 +1,12 @@
+package com.statoverflow.status.domain.auth.dto;
+
+public record TokenBlacklistStatsDto(
+	boolean synced,
+	int localEntries,
+	long lookups,
+	long localHits,
+	long redisCalls,
+	double localHitRate,
+	double redisCallRate
+) {
+}
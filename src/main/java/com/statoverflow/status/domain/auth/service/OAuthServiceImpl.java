@@ -11,6 +11,7 @@ import com.statoverflow.status.domain.auth.strategy.AuthCodeProcessor;
 import com.statoverflow.status.domain.auth.util.GoogleOAuthClient;
 import com.statoverflow.status.domain.auth.util.KakaoOAuthClient;
 import com.statoverflow.status.domain.users.dto.BasicUsersDto;
+import com.statoverflow.status.domain.users.service.UsersService;
 import com.statoverflow.status.global.error.ErrorType;
 import com.statoverflow.status.global.exception.CustomException;
 import com.statoverflow.status.global.jwt.JwtService;
@@ -29,6 +30,7 @@ public class OAuthServiceImpl implements OAuthService{
     private final TokenService tokenService;
     private final JwtService jwtService;
     private final TokenBlacklistService tokenBlacklistService;
+    private final UsersService usersService;
 
     @Override
     public OAuthProviderDto getProviderId(OAuthLoginRequestDto dto) {
@@ -44,7 +46,9 @@ public class OAuthServiceImpl implements OAuthService{
         log.info("엑세스 토큰 재발급 요청 수신");
         String refreshTokenOpt = jwtService.resolveTokenFromCookie(request, "refresh_token");
         jwtService.validateToken(refreshTokenOpt);
-        BasicUsersDto res = jwtService.parseUsersFromToken(refreshTokenOpt);
+        BasicUsersDto users = jwtService.parseUsersFromToken(refreshTokenOpt);
+        // 재발급되는 액세스 토큰에 최신 티어 스냅샷을 담습니다.
+        BasicUsersDto res = users.withTier(usersService.getTier(users.id()));
         tokenService.issueAndSetTokens(res, response);
 
         return res;
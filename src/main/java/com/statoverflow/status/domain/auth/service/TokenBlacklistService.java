@@ -1,28 +1,308 @@
 package com.statoverflow.status.domain.auth.service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
 
-import org.springframework.stereotype.Component;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.statoverflow.status.domain.auth.dto.TokenBlacklistStatsDto;
+import com.statoverflow.status.global.jwt.TokenDigest;
 
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 로그아웃된 토큰의 블랙리스트를 관리합니다.
+ * Redis에는 토큰 원문 대신 SHA-256 다이제스트를 키로 저장하고,
+ * 모든 노드가 폐기된 다이제스트를 로컬 맵에 보관(pub/sub으로 동기화)하여
+ * 대부분의 "폐기되지 않음" 판정을 Redis 왕복 없이 처리합니다.
+ *
+ * 폐기할 때마다 Redis의 세대 값(GENERATION_KEY)을 1 올리고, 각 노드는 마지막 동기화 시점의 세대 값에
+ * 그 뒤 수신한 폐기 메시지 수를 더한 값과 비교합니다. 세대 값은 generation-check-ms마다 한 번만 읽으며,
+ * 값이 어긋나면(메시지 유실, 구독 끊김) 다음 동기화 전까지 로컬 미스를 Redis에서 확인합니다.
+ */
+@Slf4j
 @Component
 @RequiredArgsConstructor
-public class TokenBlacklistService {
+public class TokenBlacklistService implements MessageListener {
+
+	static final String KEY_PREFIX = "blacklist:";
+	static final String CHANNEL = "token-blacklist";
+	// KEY_PREFIX 스캔에 걸리지 않도록 별도 이름을 사용합니다.
+	static final String GENERATION_KEY = "blacklist-generation";
+	static final String LEGACY_MIGRATED_KEY = "blacklist-legacy-migrated";
+
+	private static final int SCAN_BATCH = 1000;
 
 	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	@Value("${status.auth.blacklist.local-max-size:100000}")
+	private int localMaxSize;
+
+	@Value("${status.auth.blacklist.generation-check-ms:1000}")
+	private long generationCheckMs;
+
+	// 다이제스트 -> 만료 시각(ms)
+	private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+	// 로컬 맵이 Redis와 동기화된 상태일 때만 로컬에서 "폐기되지 않음"을 판정합니다.
+	private volatile boolean synced = false;
+
+	// 마지막 동기화 시점의 세대 값과 그 뒤 수신한 폐기 메시지 수
+	private volatile long baseGeneration;
+	private final AtomicLong received = new AtomicLong();
+	private volatile boolean generationCurrent = false;
+	private volatile long nextGenerationCheckAt = 0L;
+
+	private final LongAdder lookups = new LongAdder();
+	private final LongAdder localHits = new LongAdder();
+	private final LongAdder redisCalls = new LongAdder();
+
+	@PostConstruct
+	void subscribe() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	// 기동 시 이전 형식의 키를 한 번 옮기고, Redis의 블랙리스트를 로컬로 적재합니다.
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		migrateLegacyKeysOnce();
+		resync();
+	}
+
+	// pub/sub 메시지 유실에 대비해 주기적으로 Redis와 다시 맞춥니다.
+	@Scheduled(fixedDelayString = "${status.auth.blacklist.resync-interval-ms:300000}",
+		initialDelayString = "${status.auth.blacklist.resync-interval-ms:300000}")
+	public void resync() {
+		try {
+			// 스캔 중 도착하는 메시지도 세도록 스캔 전에 기준 세대를 잡습니다.
+			baseGeneration = readGeneration();
+			received.set(0);
+			nextGenerationCheckAt = 0L;
+
+			Map<String, Long> loaded = new ConcurrentHashMap<>();
+			long now = System.currentTimeMillis();
+			scanWithTtl(KEY_PREFIX + "*", (key, ttl) -> {
+				if (ttl > 0) {
+					loaded.put(key.substring(KEY_PREFIX.length()), now + ttl);
+				}
+			});
+
+			if (loaded.size() > localMaxSize) {
+				log.warn("블랙리스트 항목 수({})가 로컬 한도({})를 초과하여 Redis 조회로 동작합니다.", loaded.size(), localMaxSize);
+				revoked.clear();
+				synced = false;
+				return;
+			}
+			revoked.putAll(loaded);
+			revoked.values().removeIf(expiresAt -> expiresAt <= now);
+			synced = true;
+			log.info("블랙리스트 로컬 캐시 동기화 완료: {}건", loaded.size());
+		} catch (Exception e) {
+			synced = false;
+			log.warn("블랙리스트 로컬 캐시 동기화 실패, Redis 조회로 동작합니다: {}", e.getMessage());
+		}
+	}
 
 	// 로그아웃 시 토큰을 블랙리스트에 추가
 	public void addToBlacklist(String token, Long expiration) {
-		// 토큰을 key로, 'logout' 등의 값을 value로 저장
+		if (token == null || expiration == null || expiration <= 0) {
+			return;
+		}
+		String digest = TokenDigest.sha256Hex(token);
+		long expiresAt = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(expiration);
+
 		// expireInSeconds는 토큰의 남은 유효 시간
-		redisTemplate.opsForValue().set(token, "logout", expiration, TimeUnit.SECONDS);
+		redisTemplate.opsForValue().set(KEY_PREFIX + digest, "logout", expiration, TimeUnit.SECONDS);
+		redisTemplate.opsForValue().increment(GENERATION_KEY);
+		revokeLocally(digest, expiresAt);
+		redisTemplate.convertAndSend(CHANNEL, digest + ":" + expiresAt);
 	}
 
 	// 토큰이 블랙리스트에 있는지 확인
 	public boolean isBlacklisted(String accessToken) {
-		// Redis에 토큰이 존재하면 true 반환
-		return redisTemplate.hasKey(accessToken);
+		return isBlacklistedDigest(TokenDigest.sha256Hex(accessToken));
+	}
+
+	// 이미 계산한 토큰 다이제스트(TokenDigest.sha256Hex)로 폐기 여부를 확인합니다.
+	public boolean isBlacklistedDigest(String digest) {
+		lookups.increment();
+
+		Long expiresAt = revoked.get(digest);
+		if (expiresAt != null) {
+			if (expiresAt > System.currentTimeMillis()) {
+				localHits.increment();
+				return true;
+			}
+			revoked.remove(digest, expiresAt);
+		}
+		if (synced && isGenerationCurrent()) {
+			localHits.increment();
+			return false;
+		}
+
+		// 동기화되지 않았거나 폐기 메시지를 놓쳤을 수 있으면 Redis에 직접 확인합니다.
+		redisCalls.increment();
+		return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + digest));
+	}
+
+	// 다른 노드에서 발행한 폐기 이벤트 수신
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		received.incrementAndGet();
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		int separator = body.lastIndexOf(':');
+		if (separator < 0) {
+			return;
+		}
+		try {
+			revokeLocally(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+		} catch (NumberFormatException e) {
+			log.warn("잘못된 블랙리스트 동기화 메시지: {}", body);
+		}
+	}
+
+	public TokenBlacklistStatsDto getStats() {
+		long total = lookups.sum();
+		long hits = localHits.sum();
+		long calls = redisCalls.sum();
+		return new TokenBlacklistStatsDto(
+			synced,
+			revoked.size(),
+			total,
+			hits,
+			calls,
+			total == 0 ? 0.0 : (double)hits / total,
+			total == 0 ? 0.0 : (double)calls / total
+		);
+	}
+
+	private void revokeLocally(String digest, long expiresAt) {
+		if (revoked.size() >= localMaxSize) {
+			revoked.values().removeIf(exp -> exp <= System.currentTimeMillis());
+			if (revoked.size() >= localMaxSize) {
+				// 로컬에 모두 담을 수 없으면 누락이 생기므로 Redis 조회로 전환합니다.
+				synced = false;
+				return;
+			}
+		}
+		revoked.put(digest, expiresAt);
+	}
+
+	// 세대 값을 generation-check-ms마다 한 번 읽어, 동기화 이후 모든 폐기 메시지를 받았는지 확인합니다.
+	private boolean isGenerationCurrent() {
+		long now = System.currentTimeMillis();
+		if (now >= nextGenerationCheckAt) {
+			nextGenerationCheckAt = now + generationCheckMs;
+			redisCalls.increment();
+			try {
+				generationCurrent = readGeneration() == baseGeneration + received.get();
+			} catch (Exception e) {
+				generationCurrent = false;
+			}
+			if (!generationCurrent) {
+				log.debug("블랙리스트 세대 값이 로컬과 달라 다음 동기화까지 Redis로 확인합니다.");
+			}
+		}
+		return generationCurrent;
+	}
+
+	private long readGeneration() {
+		String generation = redisTemplate.opsForValue().get(GENERATION_KEY);
+		return generation != null ? Long.parseLong(generation) : 0L;
+	}
+
+	// 이전 버전에서 토큰 원문을 키로 저장한 항목을 다이제스트 키로 옮깁니다. 완료 표시가 있으면 건너뜁니다.
+	private void migrateLegacyKeysOnce() {
+		boolean claimed = false;
+		try {
+			// 이전 중인 노드가 죽어도 다음 기동 때 다시 시도하도록 진행 표시에는 TTL을 둡니다.
+			claimed = Boolean.TRUE.equals(redisTemplate.opsForValue()
+				.setIfAbsent(LEGACY_MIGRATED_KEY, "running", Duration.ofMinutes(10)));
+			if (!claimed) {
+				return;
+			}
+			List<String> legacy = new ArrayList<>();
+			scanWithTtl("eyJ*", (token, ttl) -> {
+				if (ttl > 0) {
+					redisTemplate.opsForValue()
+						.set(KEY_PREFIX + TokenDigest.sha256Hex(token), "logout", ttl, TimeUnit.MILLISECONDS);
+				}
+				legacy.add(token);
+			});
+			if (!legacy.isEmpty()) {
+				redisTemplate.delete(legacy);
+			}
+			redisTemplate.opsForValue().set(LEGACY_MIGRATED_KEY, "done");
+			log.info("이전 형식의 블랙리스트 키 {}건을 옮겼습니다.", legacy.size());
+		} catch (Exception e) {
+			// Redis에 접근할 수 없어도 기동은 계속하고, 다음 기동 때 다시 시도합니다.
+			log.warn("이전 형식의 블랙리스트 키 이전 실패: {}", e.getMessage());
+			if (claimed) {
+				releaseLegacyMigration();
+			}
+		}
+	}
+
+	private void releaseLegacyMigration() {
+		try {
+			redisTemplate.delete(LEGACY_MIGRATED_KEY);
+		} catch (Exception e) {
+			// 진행 표시는 TTL이 지나면 사라집니다.
+			log.warn("블랙리스트 키 이전 표시 해제 실패: {}", e.getMessage());
+		}
+	}
+
+	// pattern에 맞는 키를 SCAN_BATCH개씩 모아 남은 TTL(ms)을 파이프라인으로 한 번에 조회합니다. (만료 없음/없는 키는 음수)
+	private void scanWithTtl(String pattern, BiConsumer<String, Long> consumer) {
+		ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_BATCH).build();
+		List<String> batch = new ArrayList<>(SCAN_BATCH);
+		try (Cursor<String> cursor = redisTemplate.scan(options)) {
+			while (cursor.hasNext()) {
+				batch.add(cursor.next());
+				if (batch.size() == SCAN_BATCH) {
+					acceptWithTtl(batch, consumer);
+					batch.clear();
+				}
+			}
+		}
+		acceptWithTtl(batch, consumer);
+	}
+
+	private void acceptWithTtl(List<String> keys, BiConsumer<String, Long> consumer) {
+		if (keys.isEmpty()) {
+			return;
+		}
+		List<Object> ttls = redisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			for (String key : keys) {
+				connection.keyCommands().pTtl(key.getBytes(StandardCharsets.UTF_8));
+			}
+			return null;
+		});
+		for (int i = 0; i < keys.size(); i++) {
+			consumer.accept(keys.get(i), ttls.get(i) instanceof Long ttl ? ttl : -2L);
+		}
 	}
-}
\ No newline at end of file
+}
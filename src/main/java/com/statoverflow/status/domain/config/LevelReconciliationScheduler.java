@@ -0,0 +1,34 @@
+package com.statoverflow.status.domain.config;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.statoverflow.status.domain.attribute.service.LevelReconciliationService;
+import com.statoverflow.status.global.lock.PartitionedJobRunner;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LevelReconciliationScheduler {
+
+	private final LevelReconciliationService levelReconciliationService;
+	private final PartitionedJobRunner partitionedJobRunner;
+	private final Clock clock;
+
+	// 저장된 레벨/티어와 total_exp 기준 계산값의 정합성 점검 (매일 04시 00분)
+	@Scheduled(cron = "0 0 4 * * *", zone = "${status.time-zone:Asia/Seoul}")
+	public void reconcileLevels() {
+		log.info("### reconcileLevels 스케줄러 시작 (매일 04시 00분)");
+		PartitionedJobRunner.Result fixed = partitionedJobRunner.run("reconcileLevels",
+			LocalDate.now(clock).toString(), levelReconciliationService::reconcile);
+		log.info("레벨/티어 불일치 {}건을 보정했습니다. (파티션 {}/{}개, {}ms)",
+			fixed.rows(), fixed.partitions(), fixed.totalPartitions(), fixed.elapsedMillis());
+		log.info("### reconcileLevels 스케줄러 종료.");
+	}
+}
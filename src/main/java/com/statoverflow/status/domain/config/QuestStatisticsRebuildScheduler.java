@@ -0,0 +1,34 @@
+package com.statoverflow.status.domain.config;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.statoverflow.status.domain.quest.service.UsersQuestStatisticsService;
+import com.statoverflow.status.global.lock.PartitionedJobRunner;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuestStatisticsRebuildScheduler {
+
+	private final UsersQuestStatisticsService usersQuestStatisticsService;
+	private final PartitionedJobRunner partitionedJobRunner;
+	private final Clock clock;
+
+	// 누적 퀘스트 기록을 원본 테이블 기준으로 재계산 (매주 월요일 05시 00분)
+	@Scheduled(cron = "0 0 5 * * MON", zone = "${status.time-zone:Asia/Seoul}")
+	public void rebuildQuestStatistics() {
+		log.info("### rebuildQuestStatistics 스케줄러 시작 (매주 월요일 05시 00분)");
+		PartitionedJobRunner.Result rebuilt = partitionedJobRunner.run("rebuildQuestStatistics",
+			LocalDate.now(clock).toString(), usersQuestStatisticsService::rebuild);
+		log.info("사용자 {}명의 누적 퀘스트 기록을 재계산했습니다. (파티션 {}/{}개, {}ms)",
+			rebuilt.rows(), rebuilt.partitions(), rebuilt.totalPartitions(), rebuilt.elapsedMillis());
+		log.info("### rebuildQuestStatistics 스케줄러 종료.");
+	}
+}
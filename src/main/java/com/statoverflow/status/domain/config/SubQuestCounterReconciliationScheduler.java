@@ -0,0 +1,34 @@
+package com.statoverflow.status.domain.config;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.statoverflow.status.domain.quest.service.SubQuestCounterReconciliationService;
+import com.statoverflow.status.global.lock.PartitionedJobRunner;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubQuestCounterReconciliationScheduler {
+
+	private final SubQuestCounterReconciliationService subQuestCounterReconciliationService;
+	private final PartitionedJobRunner partitionedJobRunner;
+	private final Clock clock;
+
+	// 서브 퀘스트 수행 카운터와 로그 테이블의 정합성 점검 (매일 04시 30분)
+	@Scheduled(cron = "0 30 4 * * *", zone = "${status.time-zone:Asia/Seoul}")
+	public void reconcileSubQuestCounters() {
+		log.info("### reconcileSubQuestCounters 스케줄러 시작 (매일 04시 30분)");
+		PartitionedJobRunner.Result fixed = partitionedJobRunner.run("reconcileSubQuestCounters",
+			LocalDate.now(clock).toString(), subQuestCounterReconciliationService::reconcile);
+		log.info("서브 퀘스트 수행 카운터 불일치 {}건을 보정했습니다. (파티션 {}/{}개, {}ms)",
+			fixed.rows(), fixed.partitions(), fixed.totalPartitions(), fixed.elapsedMillis());
+		log.info("### reconcileSubQuestCounters 스케줄러 종료.");
+	}
+}
@@ -0,0 +1,74 @@
+package com.statoverflow.status.domain.master.catalog;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * linked_attribute 비트마스크에 대한 역색인입니다.
+ * 속성 비트마다 그 비트를 가진 항목의 순번(ordinal) 집합(BitSet)을 보관하고,
+ * "요청 비트를 모두 포함"(linked_attribute & mask = mask) 조건을 비트별 집합의 AND로 계산합니다.
+ * 항목 순번은 생성 시 전달한 리스트의 인덱스입니다.
+ */
+public final class AttributeBitmaskIndex<T> {
+
+	private final List<T> items;
+	private final BitSet[] postings = new BitSet[Integer.SIZE];
+
+	private AttributeBitmaskIndex(List<T> items, ToIntFunction<T> linkedAttribute) {
+		this.items = List.copyOf(items);
+		for (int bit = 0; bit < Integer.SIZE; bit++) {
+			postings[bit] = new BitSet(this.items.size());
+		}
+		for (int ordinal = 0; ordinal < this.items.size(); ordinal++) {
+			int mask = linkedAttribute.applyAsInt(this.items.get(ordinal));
+			while (mask != 0) {
+				postings[Integer.numberOfTrailingZeros(mask)].set(ordinal);
+				mask &= mask - 1;
+			}
+		}
+	}
+
+	public static <T> AttributeBitmaskIndex<T> of(List<T> items, ToIntFunction<T> linkedAttribute) {
+		return new AttributeBitmaskIndex<>(items, linkedAttribute);
+	}
+
+	public int size() {
+		return items.size();
+	}
+
+	public T get(int ordinal) {
+		return items.get(ordinal);
+	}
+
+	public List<T> items() {
+		return items;
+	}
+
+	/**
+	 * mask의 모든 비트를 가진 항목의 순번 집합
+	 */
+	public BitSet matching(int mask) {
+		return matching(mask, 0, items.size());
+	}
+
+	/**
+	 * [from, to) 순번 구간에서 mask의 모든 비트를 가진 항목의 순번 집합
+	 */
+	public BitSet matching(int mask, int from, int to) {
+		BitSet result = new BitSet(to);
+		result.set(from, to);
+		while (mask != 0 && !result.isEmpty()) {
+			result.and(postings[Integer.numberOfTrailingZeros(mask)]);
+			mask &= mask - 1;
+		}
+		return result;
+	}
+
+	/**
+	 * 순번 집합을 항목 리스트로 변환합니다. (순번 오름차순)
+	 */
+	public List<T> itemsOf(BitSet ordinals) {
+		return ordinals.stream().mapToObj(items::get).toList();
+	}
+}
@@ -0,0 +1,112 @@
+package com.statoverflow.status.domain.master.catalog;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 서브 퀘스트 이름(예: "기상 후 {%d}분 동안 ...")을 미리 분해해 둔 설명 템플릿입니다.
+ *
+ * - render(n)은 String.format(source, n)과 같은 결과를 형식 문자열 해석 없이 만듭니다.
+ *   %d, %% 이외의 지정자가 있으면 String.format으로 처리합니다.
+ * - bind(n)은 사용자 서브 퀘스트에 저장하는 설명으로, {actionUnitNum}만 치환합니다.
+ * - [minArg, maxArg] 범위의 렌더링 결과는 배열에 보관해 재사용합니다.
+ */
+public final class DescriptionTemplate {
+
+	private static final String ACTION_UNIT_NUM_TOKEN = "{actionUnitNum}";
+
+	private final String source;
+	// %d 자리로 나눈 리터럴 조각. 조각 사이마다 인자가 들어갑니다. 해석할 수 없으면 null
+	private final String[] segments;
+	private final int literalLength;
+	private final boolean hasActionUnitNumToken;
+
+	private final int minArg;
+	// 렌더링 결과 캐시. 같은 값을 두 번 계산하는 경합은 무해하므로 동기화하지 않습니다.
+	private final String[] rendered;
+
+	private DescriptionTemplate(String source, String[] segments, int minArg, int maxArg) {
+		this.source = source;
+		this.segments = segments;
+		int length = 0;
+		if (segments != null) {
+			for (String segment : segments) {
+				length += segment.length();
+			}
+		}
+		this.literalLength = length;
+		this.hasActionUnitNumToken = source.contains(ACTION_UNIT_NUM_TOKEN);
+		this.minArg = minArg;
+		this.rendered = new String[Math.max(maxArg - minArg + 1, 0)];
+	}
+
+	public static DescriptionTemplate compile(String source) {
+		return compile(source, 0, -1);
+	}
+
+	public static DescriptionTemplate compile(String source, int minArg, int maxArg) {
+		return new DescriptionTemplate(source, parse(source), minArg, maxArg);
+	}
+
+	public String source() {
+		return source;
+	}
+
+	public String render(int arg) {
+		int slot = arg - minArg;
+		if (slot < 0 || slot >= rendered.length) {
+			return doRender(arg);
+		}
+		String cached = rendered[slot];
+		if (cached == null) {
+			cached = doRender(arg);
+			rendered[slot] = cached;
+		}
+		return cached;
+	}
+
+	public String bind(int arg) {
+		return hasActionUnitNumToken ? source.replace(ACTION_UNIT_NUM_TOKEN, String.valueOf(arg)) : source;
+	}
+
+	private String doRender(int arg) {
+		if (segments == null) {
+			return String.format(source, arg);
+		}
+		if (segments.length == 1) {
+			return segments[0];
+		}
+		String value = String.valueOf(arg);
+		StringBuilder builder = new StringBuilder(literalLength + value.length() * (segments.length - 1));
+		builder.append(segments[0]);
+		for (int i = 1; i < segments.length; i++) {
+			builder.append(value).append(segments[i]);
+		}
+		return builder.toString();
+	}
+
+	// %d, %%만 있는 형식 문자열을 조각으로 나눕니다. 다른 지정자가 있으면 null
+	private static String[] parse(String source) {
+		List<String> segments = new ArrayList<>();
+		StringBuilder current = new StringBuilder();
+		for (int i = 0; i < source.length(); i++) {
+			char c = source.charAt(i);
+			if (c != '%') {
+				current.append(c);
+				continue;
+			}
+			char next = i + 1 < source.length() ? source.charAt(i + 1) : 0;
+			if (next == 'd') {
+				segments.add(current.toString());
+				current.setLength(0);
+			} else if (next == '%') {
+				current.append('%');
+			} else {
+				return null;
+			}
+			i++;
+		}
+		segments.add(current.toString());
+		return segments.toArray(String[]::new);
+	}
+}
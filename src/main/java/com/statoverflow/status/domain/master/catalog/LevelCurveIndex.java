@@ -0,0 +1,131 @@
+package com.statoverflow.status.domain.master.catalog;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.statoverflow.status.domain.master.entity.AttributeLevel;
+import com.statoverflow.status.domain.master.entity.TierLevel;
+import com.statoverflow.status.domain.master.enums.AttributeType;
+import com.statoverflow.status.domain.master.repository.AttributeLevelRepository;
+import com.statoverflow.status.domain.users.dto.TierDto;
+import com.statoverflow.status.domain.users.repository.TierLevelRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * attribute_level, tier_level 정적 테이블을 기동 시 한 번 읽어
+ * 경험치 구간을 정렬된 long[]로 보관하고 이진 탐색으로 레벨/티어를 계산합니다.
+ * 조회 경로에서는 DB에 접근하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LevelCurveIndex {
+
+	private final AttributeLevelRepository attributeLevelRepository;
+	private final TierLevelRepository tierLevelRepository;
+
+	private volatile Map<AttributeType, Curve> attributeCurves;
+	private volatile Curve tierCurve;
+	private volatile TierDto[] tiers;
+
+	@PostConstruct
+	public void load() {
+		List<AttributeLevel> attributeLevels = attributeLevelRepository.findAll();
+
+		Map<AttributeType, Curve> curves = new EnumMap<>(AttributeType.class);
+		for (AttributeType type : AttributeType.values()) {
+			List<AttributeLevel> levels = attributeLevels.stream()
+				.filter(level -> level.getId().getType() == type)
+				.sorted(Comparator.comparing(AttributeLevel::getXpRequired))
+				.toList();
+			curves.put(type, Curve.of(
+				levels.stream().mapToInt(level -> level.getId().getLevel()).toArray(),
+				levels.stream().mapToLong(AttributeLevel::getXpRequired).toArray()));
+		}
+
+		List<TierLevel> tierLevels = tierLevelRepository.findAll().stream()
+			.sorted(Comparator.comparing(TierLevel::getXpRequired))
+			.toList();
+
+		this.attributeCurves = curves;
+		this.tierCurve = Curve.of(
+			tierLevels.stream().mapToInt(TierLevel::getLevel).toArray(),
+			tierLevels.stream().mapToLong(TierLevel::getXpRequired).toArray());
+		this.tiers = tierLevels.stream()
+			.map(tierLevel -> new TierDto(tierLevel.getGrade(), tierLevel.getLevelOutput()))
+			.toArray(TierDto[]::new);
+
+		log.info("레벨 구간 인덱스 적재 완료: 속성 {}종, 티어 {}단계", curves.size(), tierLevels.size());
+	}
+
+	public Curve attributeCurve(AttributeType type) {
+		return attributeCurves.get(type);
+	}
+
+	public int levelOf(AttributeType type, long totalExp) {
+		Curve curve = attributeCurves.get(type);
+		return curve.level(curve.indexOf(totalExp));
+	}
+
+	// 레벨 합에 해당하는 티어 (findTopByXpRequiredGreaterThanOrderByXpRequiredAsc와 동일한 기준)
+	public TierDto tierOf(long levelSum) {
+		return tiers[tierCurve.indexOf(levelSum)];
+	}
+
+	/**
+	 * 하나의 경험치 곡선. 구간 i는 thresholds[i-1] 이상 thresholds[i] 미만의 경험치에 해당합니다.
+	 */
+	public static final class Curve {
+
+		private final int[] levels;
+		private final long[] thresholds;
+
+		private Curve(int[] levels, long[] thresholds) {
+			this.levels = levels;
+			this.thresholds = thresholds;
+		}
+
+		public static Curve of(int[] levels, long[] thresholds) {
+			if (levels.length == 0 || levels.length != thresholds.length) {
+				throw new IllegalArgumentException("레벨 구간 데이터가 올바르지 않습니다.");
+			}
+			return new Curve(levels.clone(), thresholds.clone());
+		}
+
+		// 요구 경험치가 exp보다 큰 첫 구간의 인덱스. 최대 레벨을 넘으면 마지막 구간으로 고정합니다.
+		public int indexOf(long exp) {
+			int low = 0;
+			int high = thresholds.length;
+			while (low < high) {
+				int mid = (low + high) >>> 1;
+				if (thresholds[mid] > exp) {
+					high = mid;
+				} else {
+					low = mid + 1;
+				}
+			}
+			return Math.min(low, thresholds.length - 1);
+		}
+
+		public int level(int index) {
+			return levels[index];
+		}
+
+		// 현재 구간의 시작 경험치
+		public long baseExp(int index) {
+			return index == 0 ? 0L : thresholds[index - 1];
+		}
+
+		// 다음 레벨까지 필요한 누적 경험치
+		public long xpRequired(int index) {
+			return thresholds[index];
+		}
+	}
+}
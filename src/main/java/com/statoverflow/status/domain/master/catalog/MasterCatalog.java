@@ -0,0 +1,315 @@
+package com.statoverflow.status.domain.master.catalog;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.statoverflow.status.domain.attribute.repository.AttributeRepository;
+import com.statoverflow.status.domain.master.entity.Attribute;
+import com.statoverflow.status.domain.master.entity.MainQuest;
+import com.statoverflow.status.domain.master.entity.MainSubQuest;
+import com.statoverflow.status.domain.master.entity.NicknameGenerator;
+import com.statoverflow.status.domain.master.entity.QuestTheme;
+import com.statoverflow.status.domain.master.entity.SubQuest;
+import com.statoverflow.status.domain.master.enums.ActionUnitType;
+import com.statoverflow.status.domain.master.enums.DefaultNicknameType;
+import com.statoverflow.status.domain.master.repository.NicknameGeneratorRepository;
+import com.statoverflow.status.domain.quest.repository.MainQuestRepository;
+import com.statoverflow.status.domain.quest.repository.MainSubQuestRepository;
+import com.statoverflow.status.domain.quest.repository.ThemeRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 퀘스트 생성 흐름에서 쓰는 정적 마스터 테이블(attribute, quest_theme, main_quest, sub_quest,
+ * main_sub_quest, nickname_generator)의 불변 스냅샷입니다.
+ *
+ * - 기동 시 한 번 적재하고, 조회 경로에서는 DB에 접근하지 않습니다.
+ * - 연관 엔티티는 적재 시 함께 조회(fetch join)하므로 스냅샷 밖에서 지연 로딩이 일어나지 않습니다.
+ * - reload()는 새 스냅샷을 모두 만든 뒤 참조를 한 번에 교체하므로, 요청은 항상 한 버전만 봅니다.
+ */
+@Slf4j
+@Component
+public class MasterCatalog {
+
+	private final AttributeRepository attributeRepository;
+	private final ThemeRepository themeRepository;
+	private final MainQuestRepository mainQuestRepository;
+	private final MainSubQuestRepository mainSubQuestRepository;
+	private final NicknameGeneratorRepository nicknameGeneratorRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+	public MasterCatalog(AttributeRepository attributeRepository, ThemeRepository themeRepository,
+		MainQuestRepository mainQuestRepository, MainSubQuestRepository mainSubQuestRepository,
+		NicknameGeneratorRepository nicknameGeneratorRepository, PlatformTransactionManager transactionManager) {
+		this.attributeRepository = attributeRepository;
+		this.themeRepository = themeRepository;
+		this.mainQuestRepository = mainQuestRepository;
+		this.mainSubQuestRepository = mainSubQuestRepository;
+		this.nicknameGeneratorRepository = nicknameGeneratorRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+	}
+
+	@PostConstruct
+	public void load() {
+		reload();
+	}
+
+	/**
+	 * 마스터 테이블을 다시 읽어 스냅샷을 교체합니다.
+	 *
+	 * @return 교체된 스냅샷
+	 */
+	public synchronized Snapshot reload() {
+		Snapshot previous = snapshot.get();
+		long version = previous == null ? 1L : previous.version() + 1;
+		Snapshot next = transactionTemplate.execute(status -> Snapshot.of(version,
+			attributeRepository.findAll(),
+			themeRepository.findAll(),
+			mainQuestRepository.findAllForCatalog(),
+			mainSubQuestRepository.findAllForCatalog(),
+			nicknameGeneratorRepository.findAll()));
+		snapshot.set(next);
+
+		log.info("마스터 카탈로그 적재 완료 - 버전: {}, 속성 {}개, 테마 {}개, 메인 퀘스트 {}개, 서브 퀘스트 연결 {}개",
+			next.version(), next.attributes().size(), next.themes().size(),
+			next.mainQuestCount(), next.mainSubQuestCount());
+		return next;
+	}
+
+	/**
+	 * 현재 스냅샷. 한 요청 안에서 여러 값을 읽을 때는 같은 스냅샷을 사용합니다.
+	 */
+	public Snapshot current() {
+		return snapshot.get();
+	}
+
+	/**
+	 * 한 버전의 마스터 데이터. 생성 후 변경되지 않습니다.
+	 */
+	public static final class Snapshot {
+
+		private final long version;
+		private final LocalDateTime loadedAt;
+
+		// 속성 ID를 인덱스로 하는 배열 (ID가 작은 정수)
+		private final Attribute[] attributesById;
+		private final List<Attribute> attributes;
+
+		// 속성 비트마스크 역색인. 메인 퀘스트는 (테마, ID), 서브 퀘스트 연결은 (메인 퀘스트, 서브 퀘스트) 순으로 정렬해
+		// 같은 테마/메인 퀘스트의 항목이 연속된 순번 구간 [from, to)에 놓이도록 합니다.
+		private final AttributeBitmaskIndex<QuestTheme> themes;
+		private final AttributeBitmaskIndex<MainQuest> mainQuests;
+		private final AttributeBitmaskIndex<MainSubQuest> mainSubQuests;
+		private final Map<Long, int[]> mainQuestRangeByTheme;
+		private final Map<Long, QuestTheme> themeById;
+		private final Map<Long, MainQuest> mainQuestById;
+		private final Map<Long, int[]> mainSubQuestRangeByMainQuest;
+		// 서브 퀘스트 ID별 설명 템플릿 (ActionUnitType의 입력 범위만큼 렌더링 결과를 캐시)
+		private final Map<Long, DescriptionTemplate> descriptionBySubQuest;
+		private final List<String> nicknameAdjectives;
+		private final List<String> nicknameNouns;
+
+		private Snapshot(long version, List<Attribute> attributes, List<QuestTheme> themes,
+			List<MainQuest> mainQuests, List<MainSubQuest> mainSubQuests, List<NicknameGenerator> nicknames) {
+			this.version = version;
+			this.loadedAt = LocalDateTime.now();
+
+			this.attributes = attributes.stream().sorted(Comparator.comparing(Attribute::getId)).toList();
+			int maxAttributeId = this.attributes.isEmpty() ? 0 : this.attributes.get(this.attributes.size() - 1).getId();
+			this.attributesById = new Attribute[maxAttributeId + 1];
+			for (Attribute attribute : this.attributes) {
+				attributesById[attribute.getId()] = attribute;
+			}
+
+			this.themes = AttributeBitmaskIndex.of(
+				themes.stream().sorted(Comparator.comparing(QuestTheme::getId)).toList(),
+				QuestTheme::getLinkedAttribute);
+
+			Function<MainQuest, Long> themeId = mainQuest -> mainQuest.getTheme().getId();
+			this.mainQuests = AttributeBitmaskIndex.of(
+				mainQuests.stream().sorted(Comparator.comparing(themeId).thenComparing(MainQuest::getId)).toList(),
+				MainQuest::getLinkedAttribute);
+			this.mainQuestRangeByTheme = ranges(this.mainQuests.items(), themeId);
+			this.themeById = byId(this.themes.items(), QuestTheme::getId);
+			this.mainQuestById = byId(this.mainQuests.items(), MainQuest::getId);
+
+			Function<MainSubQuest, Long> mainQuestId = mainSubQuest -> mainSubQuest.getMainQuest().getId();
+			this.mainSubQuests = AttributeBitmaskIndex.of(
+				mainSubQuests.stream()
+					.sorted(Comparator.comparing(mainQuestId)
+						.thenComparing(mainSubQuest -> mainSubQuest.getSubQuest().getId()))
+					.toList(),
+				MainSubQuest::getLinkedAttribute);
+			this.mainSubQuestRangeByMainQuest = ranges(this.mainSubQuests.items(), mainQuestId);
+
+			Map<Long, DescriptionTemplate> descriptions = new HashMap<>();
+			for (MainSubQuest mainSubQuest : this.mainSubQuests.items()) {
+				SubQuest subQuest = mainSubQuest.getSubQuest();
+				descriptions.computeIfAbsent(subQuest.getId(), id -> compileDescription(subQuest));
+			}
+			this.descriptionBySubQuest = Map.copyOf(descriptions);
+
+			this.nicknameAdjectives = nicknameNames(nicknames, DefaultNicknameType.ADJECTIVE);
+			this.nicknameNouns = nicknameNames(nicknames, DefaultNicknameType.NOUN);
+		}
+
+		static Snapshot of(long version, List<Attribute> attributes, List<QuestTheme> themes,
+			List<MainQuest> mainQuests, List<MainSubQuest> mainSubQuests, List<NicknameGenerator> nicknames) {
+			return new Snapshot(version, attributes, themes, mainQuests, mainSubQuests, nicknames);
+		}
+
+		// key로 정렬된 리스트에서 key별 순번 구간 [from, to)
+		private static <T> Map<Long, int[]> ranges(List<T> sorted, Function<T, Long> key) {
+			Map<Long, int[]> ranges = new HashMap<>();
+			int from = 0;
+			for (int i = 1; i <= sorted.size(); i++) {
+				if (i == sorted.size() || !key.apply(sorted.get(i)).equals(key.apply(sorted.get(from)))) {
+					ranges.put(key.apply(sorted.get(from)), new int[] {from, i});
+					from = i;
+				}
+			}
+			return Map.copyOf(ranges);
+		}
+
+		private static <T> Map<Long, T> byId(List<T> items, Function<T, Long> id) {
+			Map<Long, T> map = new HashMap<>();
+			for (T item : items) {
+				map.put(id.apply(item), item);
+			}
+			return Map.copyOf(map);
+		}
+
+		private static DescriptionTemplate compileDescription(SubQuest subQuest) {
+			ActionUnitType type = subQuest.getActionUnitType();
+			int min = type.getMinCount() != null ? type.getMinCount() : type.getDefaultCount();
+			int max = type.getMaxCount() != null ? type.getMaxCount() : type.getDefaultCount();
+			return DescriptionTemplate.compile(subQuest.getName(), min, max);
+		}
+
+		private static List<String> nicknameNames(List<NicknameGenerator> nicknames, DefaultNicknameType type) {
+			return nicknames.stream()
+				.filter(nickname -> nickname.getType() == type)
+				.sorted(Comparator.comparing(NicknameGenerator::getId))
+				.map(NicknameGenerator::getName)
+				.toList();
+		}
+
+		public long version() {
+			return version;
+		}
+
+		public LocalDateTime loadedAt() {
+			return loadedAt;
+		}
+
+		public List<Attribute> attributes() {
+			return attributes;
+		}
+
+		// 존재하지 않는 속성 ID면 null
+		public Attribute attribute(int attributeId) {
+			return attributeId >= 0 && attributeId < attributesById.length ? attributesById[attributeId] : null;
+		}
+
+		public List<QuestTheme> themes() {
+			return themes.items();
+		}
+
+		// linked_attribute가 bitmask의 모든 비트를 포함하는 테마
+		public List<QuestTheme> themesMatching(int bitmask) {
+			return themes.itemsOf(themes.matching(bitmask));
+		}
+
+		// 없는 ID면 null
+		public QuestTheme theme(Long themeId) {
+			return themeById.get(themeId);
+		}
+
+		// 없는 ID면 null
+		public MainQuest mainQuest(Long mainQuestId) {
+			return mainQuestById.get(mainQuestId);
+		}
+
+		public List<MainQuest> mainQuestsOfTheme(Long themeId) {
+			int[] range = mainQuestRangeByTheme.get(themeId);
+			return range == null ? List.of() : mainQuests.items().subList(range[0], range[1]);
+		}
+
+		// 테마의 메인 퀘스트 중 linked_attribute가 bitmask의 모든 비트를 포함하는 퀘스트
+		public List<MainQuest> mainQuestsMatching(Long themeId, int bitmask) {
+			int[] range = mainQuestRangeByTheme.get(themeId);
+			return range == null ? List.of() : mainQuests.itemsOf(mainQuests.matching(bitmask, range[0], range[1]));
+		}
+
+		public List<MainSubQuest> mainSubQuestsOf(Long mainQuestId) {
+			int[] range = mainSubQuestRangeByMainQuest.get(mainQuestId);
+			return range == null ? List.of() : mainSubQuests.items().subList(range[0], range[1]);
+		}
+
+		// 메인 퀘스트에 연결된 서브 퀘스트. 없으면 null
+		public MainSubQuest mainSubQuest(Long mainQuestId, Long subQuestId) {
+			for (MainSubQuest mainSubQuest : mainSubQuestsOf(mainQuestId)) {
+				if (mainSubQuest.getSubQuest().getId().equals(subQuestId)) {
+					return mainSubQuest;
+				}
+			}
+			return null;
+		}
+
+		// 메인 퀘스트의 서브 퀘스트 중 linked_attribute가 bitmask의 모든 비트를 포함하는 연결
+		public List<MainSubQuest> mainSubQuestsMatching(Long mainQuestId, int bitmask) {
+			int[] range = mainSubQuestRangeByMainQuest.get(mainQuestId);
+			return range == null ? List.of()
+				: mainSubQuests.itemsOf(mainSubQuests.matching(bitmask, range[0], range[1]));
+		}
+
+		/**
+		 * 서브 퀘스트 설명을 렌더링합니다. (String.format(source, actionUnitNum)과 동일)
+		 * 카탈로그의 템플릿과 원문이 다르면(예: 이름 변경 전에 저장된 설명) 원문을 그대로 사용합니다.
+		 */
+		public String renderDescription(Long subQuestId, String source, int actionUnitNum) {
+			return descriptionOf(subQuestId, source).render(actionUnitNum);
+		}
+
+		/**
+		 * 사용자 서브 퀘스트에 저장할 설명을 만듭니다. ({actionUnitNum} 치환)
+		 */
+		public String bindDescription(Long subQuestId, String source, int actionUnitNum) {
+			return descriptionOf(subQuestId, source).bind(actionUnitNum);
+		}
+
+		private DescriptionTemplate descriptionOf(Long subQuestId, String source) {
+			DescriptionTemplate template = descriptionBySubQuest.get(subQuestId);
+			return template != null && template.source().equals(source) ? template : DescriptionTemplate.compile(source);
+		}
+
+		public int mainQuestCount() {
+			return mainQuests.size();
+		}
+
+		public int mainSubQuestCount() {
+			return mainSubQuests.size();
+		}
+
+		public List<String> nicknameAdjectives() {
+			return nicknameAdjectives;
+		}
+
+		public List<String> nicknameNouns() {
+			return nicknameNouns;
+		}
+	}
+}
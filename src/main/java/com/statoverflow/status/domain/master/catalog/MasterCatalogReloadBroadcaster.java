@@ -0,0 +1,66 @@
+package com.statoverflow.status.domain.master.catalog;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 마스터 카탈로그 재적재를 모든 노드에 전파합니다.
+ *
+ * - 요청을 받은 노드는 MasterCatalog, LevelCurveIndex를 바로 다시 읽고 Redis 채널에 노드 ID를 발행합니다.
+ * - 다른 노드는 메시지를 받아 같은 재적재를 수행하고, 자신이 발행한 메시지는 무시합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MasterCatalogReloadBroadcaster implements MessageListener {
+
+	static final String CHANNEL = "master-catalog-reload";
+
+	private final String nodeId = UUID.randomUUID().toString();
+
+	private final MasterCatalog masterCatalog;
+	private final LevelCurveIndex levelCurveIndex;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	@PostConstruct
+	void subscribe() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	/**
+	 * 이 노드를 재적재하고 다른 노드에 재적재를 요청합니다.
+	 *
+	 * @return 이 노드에서 교체된 스냅샷
+	 */
+	public MasterCatalog.Snapshot reloadAll() {
+		MasterCatalog.Snapshot snapshot = reloadLocally();
+		redisTemplate.convertAndSend(CHANNEL, nodeId);
+		return snapshot;
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		if (nodeId.equals(new String(message.getBody(), StandardCharsets.UTF_8))) {
+			return;
+		}
+		log.info("다른 노드의 요청으로 마스터 카탈로그를 다시 적재합니다.");
+		reloadLocally();
+	}
+
+	private MasterCatalog.Snapshot reloadLocally() {
+		levelCurveIndex.load();
+		return masterCatalog.reload();
+	}
+}
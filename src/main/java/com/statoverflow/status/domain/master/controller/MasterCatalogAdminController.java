@@ -0,0 +1,34 @@
+package com.statoverflow.status.domain.master.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.statoverflow.status.domain.master.catalog.MasterCatalog;
+import com.statoverflow.status.domain.master.catalog.MasterCatalogReloadBroadcaster;
+import com.statoverflow.status.domain.master.dto.MasterCatalogStatsDto;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+public class MasterCatalogAdminController {
+
+	private final MasterCatalog masterCatalog;
+	private final MasterCatalogReloadBroadcaster masterCatalogReloadBroadcaster;
+
+	// 예: GET /admin/master-catalog
+	@GetMapping(value = "/master-catalog", produces = MediaType.APPLICATION_JSON_VALUE)
+	public MasterCatalogStatsDto stats() {
+		return MasterCatalogStatsDto.from(masterCatalog.current());
+	}
+
+	// 예: POST /admin/master-catalog/reload (마스터 테이블 변경 후 호출, 모든 노드에 전파)
+	@PostMapping(value = "/master-catalog/reload", produces = MediaType.APPLICATION_JSON_VALUE)
+	public MasterCatalogStatsDto reload() {
+		return MasterCatalogStatsDto.from(masterCatalogReloadBroadcaster.reloadAll());
+	}
+}
@@ -0,0 +1,25 @@
+package com.statoverflow.status.domain.master.dto;
+
+import java.time.LocalDateTime;
+
+import com.statoverflow.status.domain.master.catalog.MasterCatalog;
+
+public record MasterCatalogStatsDto(
+	long version,
+	LocalDateTime loadedAt,
+	int attributes,
+	int themes,
+	int mainQuests,
+	int mainSubQuests
+) {
+	public static MasterCatalogStatsDto from(MasterCatalog.Snapshot snapshot) {
+		return new MasterCatalogStatsDto(
+			snapshot.version(),
+			snapshot.loadedAt(),
+			snapshot.attributes().size(),
+			snapshot.themes().size(),
+			snapshot.mainQuestCount(),
+			snapshot.mainSubQuestCount()
+		);
+	}
+}
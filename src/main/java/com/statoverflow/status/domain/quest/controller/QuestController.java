@@ -1,7 +1,9 @@
 package com.statoverflow.status.domain.quest.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -58,15 +60,15 @@ public class QuestController {
 	@GetMapping("/get-themes")
 	public ResponseEntity<ApiResponse<List<ThemeResponseDto>>> getThemes(
 		@Parameter(hidden = true) @CurrentUser BasicUsersDto user) {
-		return ApiResponse.ok(themeService.getThemes());
+		return ApiResponse.ok(themeService.getThemes(user.id()));
 	}
 
-	@Operation(summary = "[퀘스트 생성 - 2] 테마 목록 재요청", description = "현재 테마 목록을 제외한 테마 목록을 다시 조회합니다.")
+	@Operation(summary = "[퀘스트 생성 - 2] 테마 목록 재요청", description = "이미 받은 테마를 제외한 테마 목록을 다시 조회합니다.")
 	@GetMapping("/reroll-themes")
 	public ResponseEntity<ApiResponse<List<ThemeResponseDto>>> rerollThemes(
 		@Parameter(hidden = true) @CurrentUser BasicUsersDto user,
-		@Parameter(description = "재요청할 테마 코드 목록", required = true) @RequestParam List<Integer> themes) {
-		return ApiResponse.ok(themeService.rerollThemes(themes));
+		@Parameter(description = "재요청할 테마 코드 목록 (생략 가능)") @RequestParam(required = false) List<Integer> themes) {
+		return ApiResponse.ok(themeService.rerollThemes(themes, user.id()));
 	}
 
 	@Operation(summary = "[퀘스트 생성 - 3] 메인 퀘스트 목록 조회", description = "선택된 테마에 맞는 메인 퀘스트 목록을 조회합니다.")
@@ -82,7 +84,7 @@ public class QuestController {
 	public ResponseEntity<ApiResponse<List<MainQuestResponseDto>>> rerollMainQuests(
 		@Parameter(hidden = true) @CurrentUser BasicUsersDto user,
 		@Parameter(description = "선택된 테마 코드", required = true) @RequestParam Long theme,
-		@Parameter(description = "재요청할 메인 퀘스트 코드 목록", required = true) @RequestParam List<Long> mainQuests) {
+		@Parameter(description = "재요청할 메인 퀘스트 코드 목록 (생략 가능)") @RequestParam(required = false) List<Long> mainQuests) {
 		return ApiResponse.ok(mainQuestService.rerollMainQuests(mainQuests, user.id(), theme));
 	}
 
@@ -148,12 +150,16 @@ public class QuestController {
 	}
 
 	@Deprecated
-	@Operation(summary = "[퀘스트 상세 조회 - 2] 메인 퀘스트 ID로 서브 퀘스트 완료 기록 조회", description = "특정 메인 퀘스트에 속한 모든 서브 퀘스트 완료 기록을 조회합니다.")
+	@Operation(summary = "[퀘스트 상세 조회 - 2] 메인 퀘스트 ID로 서브 퀘스트 완료 기록 조회", description = "특정 메인 퀘스트에 속한 서브 퀘스트 완료 기록을 날짜별 최신순으로, before 이전 limit일씩 조회합니다.")
 	@GetMapping("/{id}/history")
 	public ResponseEntity<ApiResponse<List<QuestHistoryByDateDto>>> getSubQuestsLogsByMainQuestId(
 		@Parameter(description = "메인 퀘스트 ID", required = true) @PathVariable Long id,
+		@Parameter(description = "이 날짜 이전의 기록만 조회 (이전 페이지의 마지막 날짜, 생략 시 최신부터)")
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate before,
+		@Parameter(description = "페이지에 포함할 최대 날짜 수 (최대 100)")
+		@RequestParam(defaultValue = "30") int limit,
 		@Parameter(hidden = true) @CurrentUser BasicUsersDto user) {
-		return ApiResponse.ok(usersSubQuestService.getSubQuestsLogs(user.id(), id));
+		return ApiResponse.ok(usersSubQuestService.getSubQuestsLogs(user.id(), id, before, limit));
 	}
 
 	@Deprecated
@@ -1,17 +1,19 @@
 package com.statoverflow.status.domain.quest.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.statoverflow.status.domain.quest.dto.WithStatus;
 import com.statoverflow.status.domain.quest.dto.response.QuestHistoryByDateDto;
+import com.statoverflow.status.domain.quest.dto.response.QuestHistoryPageDto;
 import com.statoverflow.status.domain.quest.dto.response.UserQuestStatisticsDto;
-import com.statoverflow.status.domain.quest.dto.response.UsersMainQuestResponseDto;
 import com.statoverflow.status.domain.quest.service.interfaces.UsersMainQuestService;
 import com.statoverflow.status.domain.quest.service.interfaces.UsersSubQuestService;
 import com.statoverflow.status.domain.users.dto.BasicUsersDto;
@@ -40,18 +42,24 @@ public class QuestStatisticsController {
 		return ApiResponse.ok(usersMainQuestService.getUserStatistics(user.id()));
 	}
 
-	@Operation(summary = "완료한 메인 퀘스트 보기", description = "완료한 메인퀘스트를 ‘완료일 기준 최근 순’으로 상단부터 하단 방향으로 출력합니다.")
+	@Operation(summary = "완료한 메인 퀘스트 보기", description = "완료한 메인퀘스트를 ‘완료일 기준 최근 순’으로 상단부터 하단 방향으로 출력합니다. 응답의 nextCursor를 cursor로 넘기면 다음 페이지를 조회합니다.")
 	@GetMapping("/history")
-	public ResponseEntity<ApiResponse<List<WithStatus<UsersMainQuestResponseDto>>>> getUsersMainQuestHistory(
-		@CurrentUser BasicUsersDto user) {
-		return ApiResponse.ok(usersMainQuestService.getUsersMainQuestHistory(user.id()));
+	public ResponseEntity<ApiResponse<QuestHistoryPageDto>> getUsersMainQuestHistory(
+		@Parameter(description = "이전 페이지 응답의 nextCursor (생략 시 첫 페이지)") @RequestParam(required = false) String cursor,
+		@Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size,
+		@Parameter(hidden = true) @CurrentUser BasicUsersDto user) {
+		return ApiResponse.ok(usersMainQuestService.getUsersMainQuestHistory(user.id(), cursor, size));
 	}
 
-	@Operation(summary = "[퀘스트 상세 조회 - 2] 메인 퀘스트 ID로 서브 퀘스트 완료 기록 조회", description = "특정 메인 퀘스트에 속한 모든 서브 퀘스트 완료 기록을 조회합니다.")
+	@Operation(summary = "[퀘스트 상세 조회 - 2] 메인 퀘스트 ID로 서브 퀘스트 완료 기록 조회", description = "특정 메인 퀘스트에 속한 서브 퀘스트 완료 기록을 날짜별 최신순으로, before 이전 limit일씩 조회합니다.")
 	@GetMapping("/history/{id}")
 	public ResponseEntity<ApiResponse<List<QuestHistoryByDateDto>>> getSubQuestsLogsByMainQuestId(
 		@Parameter(description = "메인 퀘스트 ID", required = true) @PathVariable Long id,
+		@Parameter(description = "이 날짜 이전의 기록만 조회 (이전 페이지의 마지막 날짜, 생략 시 최신부터)")
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate before,
+		@Parameter(description = "페이지에 포함할 최대 날짜 수 (최대 100)")
+		@RequestParam(defaultValue = "30") int limit,
 		@Parameter(hidden = true) @CurrentUser BasicUsersDto user) {
-		return ApiResponse.ok(usersSubQuestService.getSubQuestsLogs(user.id(), id));
+		return ApiResponse.ok(usersSubQuestService.getSubQuestsLogs(user.id(), id, before, limit));
 	}
 }
@@ -0,0 +1,15 @@
+package com.statoverflow.status.domain.quest.dto;
+
+import java.time.LocalDate;
+
+// 기간 만료로 FAILED 처리된 메인 퀘스트 (UPDATE ... RETURNING 결과)
+public interface ExpiredMainQuest {
+
+	Long getId();
+
+	Long getUsersId();
+
+	LocalDate getStartDate();
+
+	LocalDate getEndDate();
+}
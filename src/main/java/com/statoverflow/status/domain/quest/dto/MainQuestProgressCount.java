@@ -0,0 +1,11 @@
+package com.statoverflow.status.domain.quest.dto;
+
+// 메인 퀘스트별 필요 로그 수 합계와 수행 로그 수 합계
+public interface MainQuestProgressCount {
+
+	Long getMainQuestId();
+
+	Integer getTotalRequired();
+
+	Integer getTotalCompleted();
+}
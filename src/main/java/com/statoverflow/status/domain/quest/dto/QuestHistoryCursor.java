@@ -0,0 +1,44 @@
+package com.statoverflow.status.domain.quest.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.statoverflow.status.domain.quest.entity.UsersMainQuest;
+import com.statoverflow.status.global.error.ErrorType;
+import com.statoverflow.status.global.exception.CustomException;
+
+/**
+ * 완료한 메인 퀘스트 히스토리의 다음 페이지 위치 (updated_at DESC, id DESC 기준 마지막 항목)
+ * 클라이언트에는 Base64 URL-safe 문자열로만 노출합니다.
+ */
+public record QuestHistoryCursor(
+	LocalDateTime updatedAt,
+	Long id
+) {
+
+	private static final char SEPARATOR = '|';
+
+	public static QuestHistoryCursor from(UsersMainQuest usersMainQuest) {
+		return new QuestHistoryCursor(usersMainQuest.getUpdatedAt(), usersMainQuest.getId());
+	}
+
+	public String encode() {
+		String raw = updatedAt.toString() + SEPARATOR + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static QuestHistoryCursor decode(String token) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			int separator = raw.lastIndexOf(SEPARATOR);
+			return new QuestHistoryCursor(
+				LocalDateTime.parse(raw.substring(0, separator)),
+				Long.parseLong(raw.substring(separator + 1))
+			);
+		} catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+			throw new CustomException(ErrorType.INVALID_CURSOR);
+		}
+	}
+}
@@ -0,0 +1,11 @@
+package com.statoverflow.status.domain.quest.dto;
+
+// 수행 로그 카운터 증가 UPDATE ... RETURNING 결과
+public interface SubQuestLogCounter {
+
+	Integer getCompletedLogCount();
+
+	Integer getCurrentPeriodCount();
+
+	byte[] getCompletionDays();
+}
@@ -0,0 +1,11 @@
+package com.statoverflow.status.domain.quest.dto.response;
+
+import java.util.List;
+
+import com.statoverflow.status.domain.quest.dto.WithStatus;
+
+public record QuestHistoryPageDto(
+	List<WithStatus<UsersMainQuestResponseDto>> quests,
+	String nextCursor // 다음 페이지 요청 시 cursor로 전달, 마지막 페이지면 null
+) {
+}
@@ -1,9 +1,26 @@
 package com.statoverflow.status.domain.quest.dto.response;
 
+import com.statoverflow.status.domain.quest.entity.UsersQuestStatistics;
+
 public record UserQuestStatisticsDto(
 	int totalMainQuests, // 완료한 총 메인 퀘스트 수
 	int totalSubQuestVerifications, // 총 서브 퀘스트 인증 횟수
 	int averageCompletionRate, // 평균 퀘스트 완료율
 	int averageDurationDays // 평균 퀘스트 수행 기간
 ) {
+
+	public static final UserQuestStatisticsDto EMPTY = new UserQuestStatisticsDto(0, 0, 0, 0);
+
+	public static UserQuestStatisticsDto from(UsersQuestStatistics statistics) {
+		int total = statistics.getTotalMainQuests();
+		if (total == 0) {
+			return EMPTY;
+		}
+		return new UserQuestStatisticsDto(
+			total,
+			statistics.getTotalSubQuestVerifications(),
+			(int)(statistics.getCompletionRateSum() / total),
+			(int)(statistics.getDurationDaysSum() / total)
+		);
+	}
 }
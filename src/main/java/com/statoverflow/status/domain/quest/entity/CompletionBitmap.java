@@ -0,0 +1,95 @@
+package com.statoverflow.status.domain.quest.entity;
+
+/**
+ * 메인 퀘스트 시작일로부터의 경과 일수(day offset)를 비트 위치로 하는 서브 퀘스트 수행 비트맵입니다.
+ * users_sub_quest.completion_days(bytea)와 같은 비트 순서(바이트 n / 8의 하위 n % 8번째 비트,
+ * PostgreSQL set_bit과 동일)를 사용하며, 구간 수행 횟수를 워드 단위 popcount로 계산합니다.
+ */
+public final class CompletionBitmap {
+
+	private final long[] words;
+	private final int capacity;
+
+	private CompletionBitmap(long[] words, int capacity) {
+		this.words = words;
+		this.capacity = capacity;
+	}
+
+	public static CompletionBitmap of(byte[] bytes) {
+		if (bytes == null) {
+			return new CompletionBitmap(new long[0], 0);
+		}
+		long[] words = new long[(bytes.length + 7) / 8];
+		for (int i = 0; i < bytes.length; i++) {
+			words[i >>> 3] |= (bytes[i] & 0xFFL) << ((i & 7) * 8);
+		}
+		return new CompletionBitmap(words, bytes.length * 8);
+	}
+
+	/**
+	 * 기간 일수만큼의 비트를 담는 빈 bytea 값
+	 */
+	public static byte[] emptyBytes(long days) {
+		return new byte[(int)((Math.max(days, 0) + 7) / 8)];
+	}
+
+	public boolean isSet(int day) {
+		return day >= 0 && day < capacity && (words[day >>> 6] & (1L << day)) != 0;
+	}
+
+	/**
+	 * 단일 비트 확인은 워드 변환 없이 bytea 값에서 바로 읽습니다.
+	 */
+	public static boolean isSet(byte[] bytes, int day) {
+		return bytes != null && day >= 0 && day < bytes.length * 8 && (bytes[day >>> 3] & (1 << (day & 7))) != 0;
+	}
+
+	/**
+	 * [from, to) 구간에서 수행한 일수
+	 */
+	public int count(int from, int to) {
+		from = Math.max(from, 0);
+		to = Math.min(to, capacity);
+		if (from >= to) {
+			return 0;
+		}
+
+		int firstWord = from >>> 6;
+		int lastWord = (to - 1) >>> 6;
+		long firstMask = -1L << from;
+		long lastMask = -1L >>> (63 - ((to - 1) & 63));
+
+		if (firstWord == lastWord) {
+			return Long.bitCount(words[firstWord] & firstMask & lastMask);
+		}
+		int count = Long.bitCount(words[firstWord] & firstMask);
+		for (int i = firstWord + 1; i < lastWord; i++) {
+			count += Long.bitCount(words[i]);
+		}
+		return count + Long.bitCount(words[lastWord] & lastMask);
+	}
+
+	/**
+	 * 전체 수행 일수
+	 */
+	public int count() {
+		int count = 0;
+		for (long word : words) {
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+
+	/**
+	 * 시작일부터 7일 단위로 나눈 모든 주차에서 perWeek일 이상 수행했는지 확인합니다.
+	 * 마지막 주차가 7일보다 짧으면 남은 일수만 봅니다.
+	 */
+	public boolean everyWeekAtLeast(int totalDays, int perWeek) {
+		for (int weekStart = 0; weekStart < totalDays; weekStart += 7) {
+			if (count(weekStart, Math.min(weekStart + 7, totalDays)) < perWeek) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -29,6 +29,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -47,7 +48,8 @@ import lombok.Setter;
 public class UsersMainQuest {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_main_quest_seq")
+	@SequenceGenerator(name = "users_main_quest_seq", sequenceName = "users_main_quest_id_seq", allocationSize = 50)
 	private Long id;
 
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -97,6 +99,13 @@ public class UsersMainQuest {
 	@Enumerated(EnumType.STRING)
 	private QuestStatus status;
 
+	@Column(nullable = false, updatable = false)
+	private Integer subQuestCount;
+
+	// 완료 조건을 충족한 서브 퀘스트 수, 원자적 UPDATE로만 갱신합니다.
+	@Column(nullable = false, updatable = false)
+	private Integer satisfiedSubQuestCount;
+
 	@PrePersist
 	protected void onCreate() {
 		this.title = mainQuest.getName();
@@ -110,6 +119,7 @@ public class UsersMainQuest {
 		}
 
 		this.status = QuestStatus.ACTIVE;
+		this.satisfiedSubQuestCount = 0;
 	}
 
 	@OneToMany(mappedBy = "mainQuest", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
@@ -0,0 +1,43 @@
+package com.statoverflow.status.domain.quest.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자별 누적 퀘스트 기록
+ * 메인 퀘스트가 COMPLETED/FAILED로 바뀔 때 upsert 쿼리로만 갱신합니다.
+ */
+@Entity
+@Table(name = "users_quest_statistics")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UsersQuestStatistics {
+
+	@Id
+	@Column(name = "users_id")
+	private Long usersId;
+
+	@Column(nullable = false)
+	private Integer totalMainQuests;
+
+	@Column(nullable = false)
+	private Integer totalSubQuestVerifications;
+
+	// 메인 퀘스트별 완료율(%)의 합
+	@Column(nullable = false)
+	private Long completionRateSum;
+
+	// 메인 퀘스트별 수행 기간(일)의 합
+	@Column(nullable = false)
+	private Long durationDaysSum;
+
+	@Column(nullable = false)
+	private LocalDateTime updatedAt;
+}
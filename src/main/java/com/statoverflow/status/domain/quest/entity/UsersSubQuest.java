@@ -1,5 +1,7 @@
 package com.statoverflow.status.domain.quest.entity;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -9,6 +11,7 @@ import com.statoverflow.status.domain.master.entity.Attribute;
 import com.statoverflow.status.domain.master.entity.MainQuest;
 import com.statoverflow.status.domain.master.entity.SubQuest;
 import com.statoverflow.status.domain.master.enums.ActionUnitType;
+import com.statoverflow.status.domain.quest.dto.SubQuestLogCounter;
 import com.statoverflow.status.domain.quest.enums.FrequencyType;
 import com.statoverflow.status.domain.quest.enums.QuestStatus;
 import com.statoverflow.status.domain.users.entity.Users;
@@ -28,6 +31,7 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.criteria.JoinType;
 import lombok.AccessLevel;
@@ -49,7 +53,8 @@ import lombok.ToString;
 public class UsersSubQuest {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_sub_quest_seq")
+	@SequenceGenerator(name = "users_sub_quest_seq", sequenceName = "users_sub_quest_id_seq", allocationSize = 50)
 	private Long id;
 
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -100,6 +105,25 @@ public class UsersSubQuest {
 	@Column(nullable = true)
 	private Integer requiredLog;
 
+	// 수행 로그 카운터는 원자적 UPDATE 쿼리로만 갱신하므로 변경 감지 대상에서 제외합니다.
+	@Column(nullable = false, updatable = false)
+	private Integer completedLogCount;
+
+	@Column(nullable = false, updatable = false)
+	private Integer currentPeriodCount;
+
+	@Column(nullable = true, updatable = false)
+	private LocalDate periodStart;
+
+	// 완료 조건 충족 여부, 역시 원자적 UPDATE로만 갱신합니다.
+	@Column(nullable = false, updatable = false)
+	private Boolean satisfied;
+
+	// 메인 퀘스트 시작일 기준 일자별 수행 비트맵 (CompletionBitmap 참고)
+	@ToString.Exclude
+	@Column(nullable = false, updatable = false, columnDefinition = "bytea")
+	private byte[] completionDays;
+
 	@OneToMany(mappedBy = "usersSubQuest", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
 	private List<UsersSubQuestLog> logs = new ArrayList<>();
 
@@ -107,6 +131,69 @@ public class UsersSubQuest {
 	protected void onCreate() {
 		this.actionUnitType = subQuest.getActionUnitType();
 		this.status = QuestStatus.ACTIVE;
+		this.completedLogCount = 0;
+		this.currentPeriodCount = 0;
+		this.satisfied = false;
+		this.completionDays = CompletionBitmap.emptyBytes(
+			ChronoUnit.DAYS.between(mainQuest.getStartDate(), mainQuest.getEndDate()) + 1);
+	}
+
+	/**
+	 * 오늘이 속한 수행 주기의 시작일
+	 * DAILY: 오늘, WEEKLY_n: 메인 퀘스트 시작일 기준 7일 주차, MONTHLY_n: 메인 퀘스트 시작일
+	 */
+	public LocalDate currentPeriodStart(LocalDate today) {
+		LocalDate startDate = mainQuest.getStartDate();
+		if (frequencyType == FrequencyType.DAILY) {
+			return today;
+		}
+		if (frequencyType.getPer() == 7) {
+			return startDate.plusDays((ChronoUnit.DAYS.between(startDate, today) / 7) * 7);
+		}
+		return startDate;
+	}
+
+	/**
+	 * 현재 주기의 수행 횟수. 저장된 주기가 이미 지났다면 0입니다.
+	 */
+	public int periodCountOn(LocalDate today) {
+		return currentPeriodStart(today).equals(periodStart) ? currentPeriodCount : 0;
+	}
+
+	/**
+	 * 오늘 기준의 서브 퀘스트 상태. 주기별 달성 상태는 저장하지 않고 수행 기록으로 계산합니다.
+	 * 종료 상태(COMPLETED/FAILED/DELETED)는 그대로, 진행 중이면
+	 * 이번 주 목표 달성 시 WEEKLY_ACCOMPLISHED, 오늘 수행했으면 ACCOMPLISHED, 아니면 ACTIVE 입니다.
+	 */
+	public QuestStatus statusOn(LocalDate today) {
+		if (status != QuestStatus.ACTIVE) {
+			return status;
+		}
+		if (frequencyType.getPer() == 7 && periodCountOn(today) >= frequencyType.getCnt()) {
+			return QuestStatus.WEEKLY_ACCOMPLISHED;
+		}
+		return CompletionBitmap.isSet(completionDays, dayOffset(today)) ? QuestStatus.ACCOMPLISHED : QuestStatus.ACTIVE;
+	}
+
+	/**
+	 * 메인 퀘스트 시작일로부터의 경과 일수 (비트맵의 비트 위치)
+	 */
+	public int dayOffset(LocalDate date) {
+		return (int)ChronoUnit.DAYS.between(mainQuest.getStartDate(), date);
+	}
+
+	public CompletionBitmap completionBitmap() {
+		return CompletionBitmap.of(completionDays);
+	}
+
+	/**
+	 * 카운터 UPDATE 결과를 영속성 컨텍스트의 엔티티에 반영합니다.
+	 */
+	public void applyCounter(SubQuestLogCounter counter, LocalDate periodStart) {
+		this.completedLogCount = counter.getCompletedLogCount();
+		this.currentPeriodCount = counter.getCurrentPeriodCount();
+		this.completionDays = counter.getCompletionDays();
+		this.periodStart = periodStart;
 	}
 
 
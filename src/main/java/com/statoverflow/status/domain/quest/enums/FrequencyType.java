@@ -1,6 +1,6 @@
 package com.statoverflow.status.domain.quest.enums;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 
@@ -22,14 +22,13 @@ public enum FrequencyType {
 	MONTHLY_3("monthly_3", "월 3회", 3, -1),
 	MONTHLY_4("monthly_4", "월 4회", 4, -1);
 
-	private static final Random RANDOM = new Random();
 	private static final FrequencyType[] VALUES = values();
 
 	private final String field, description;
 	private final int cnt, per;
 
 
-	public static FrequencyType getRandomFrequencyType() {
-		return VALUES[RANDOM.nextInt(VALUES.length)];
+	public static FrequencyType getRandomFrequencyType(RandomGenerator random) {
+		return VALUES[random.nextInt(VALUES.length)];
 	}
 }
@@ -1,15 +1,22 @@
 package com.statoverflow.status.domain.quest.repository;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.statoverflow.status.domain.master.entity.MainQuest;
 
 public interface MainQuestRepository extends JpaRepository<MainQuest, Long> {
-	@Query("SELECT mq FROM MainQuest mq WHERE mq.theme.id = :themeId AND (BITAND(mq.linkedAttribute, :selectedAttributes) = :selectedAttributes)")
-	List<MainQuest> findAllByThemeIdAndAttributes(Long themeId, int selectedAttributes);
-
 	List<MainQuest> findAllByThemeId(Long themeId);
+
+	// 퀘스트 생성용: UsersMainQuest 생성 시 읽는 속성을 함께 조회
+	@Query("SELECT mq FROM MainQuest mq JOIN FETCH mq.attribute1 LEFT JOIN FETCH mq.attribute2 WHERE mq.id = :id")
+	Optional<MainQuest> findWithAttributesById(@Param("id") Long id);
+
+	// 마스터 카탈로그 적재용: 테마와 속성을 함께 조회
+	@Query("SELECT mq FROM MainQuest mq JOIN FETCH mq.theme JOIN FETCH mq.attribute1 LEFT JOIN FETCH mq.attribute2")
+	List<MainQuest> findAllForCatalog();
 }
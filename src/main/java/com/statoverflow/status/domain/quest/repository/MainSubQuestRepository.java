@@ -1,5 +1,6 @@
 package com.statoverflow.status.domain.quest.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -13,16 +14,17 @@ import com.statoverflow.status.domain.master.entity.MainSubQuestId;
 @Repository
 public interface MainSubQuestRepository extends JpaRepository<MainSubQuest, MainSubQuestId> {
 
-	@Query(value = "SELECT * FROM main_sub_quest msq " +
-		"WHERE msq.main_quest_id = :mainQuestId " +
-		"AND (msq.linked_attribute & :selectedAttributes) = :selectedAttributes",
-		nativeQuery = true)
-	List<MainSubQuest> findAllByMainQuestIdAndAttributes(
-		@Param("mainQuestId") Long mainQuestId,
-		@Param("selectedAttributes") Integer selectedAttributes
-	);
-
-	MainSubQuest findByMainQuestIdAndSubQuestId(Long id, Long id1);
+	// 퀘스트 생성용: 요청한 서브 퀘스트들을 서브 퀘스트/속성과 함께 한 번에 조회
+	@Query("SELECT msq FROM MainSubQuest msq JOIN FETCH msq.subQuest " +
+		"JOIN FETCH msq.attribute1 LEFT JOIN FETCH msq.attribute2 " +
+		"WHERE msq.mainQuest.id = :mainQuestId AND msq.subQuest.id IN :subQuestIds")
+	List<MainSubQuest> findAllByMainQuestIdAndSubQuestIdIn(@Param("mainQuestId") Long mainQuestId,
+		@Param("subQuestIds") Collection<Long> subQuestIds);
 
 	List<MainSubQuest> findAllByMainQuestId(Long mainQuestId);
+
+	// 마스터 카탈로그 적재용: 메인/서브 퀘스트와 속성을 함께 조회
+	@Query("SELECT msq FROM MainSubQuest msq JOIN FETCH msq.mainQuest JOIN FETCH msq.subQuest " +
+		"JOIN FETCH msq.attribute1 LEFT JOIN FETCH msq.attribute2")
+	List<MainSubQuest> findAllForCatalog();
 }
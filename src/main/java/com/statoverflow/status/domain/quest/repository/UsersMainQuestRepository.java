@@ -1,23 +1,89 @@
 package com.statoverflow.status.domain.quest.repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.statoverflow.status.domain.master.entity.MainQuest;
+import com.statoverflow.status.domain.quest.dto.ExpiredMainQuest;
 import com.statoverflow.status.domain.quest.entity.UsersMainQuest;
 import com.statoverflow.status.domain.quest.enums.QuestStatus;
 
 @Repository
 public interface UsersMainQuestRepository extends JpaRepository<UsersMainQuest, Long> {
 
-	List<UsersMainQuest> findByStatusAndEndDateBefore(QuestStatus status, LocalDate endDate);
+	// (fromUserId, toUserId] 사용자들의 기간이 지난 ACTIVE 메인 퀘스트를 최대 limit개 FAILED 처리하고,
+	// 누적 기록 반영에 필요한 값을 반환
+	@Query(value = "UPDATE users_main_quest SET status = 'FAILED', updated_at = :now " +
+		"WHERE id IN (SELECT id FROM users_main_quest " +
+		"WHERE status = 'ACTIVE' AND end_date < :today AND users_id > :fromUserId AND users_id <= :toUserId " +
+		"LIMIT :limit) " +
+		"RETURNING id AS \"id\", users_id AS \"usersId\", start_date AS \"startDate\", end_date AS \"endDate\"",
+		nativeQuery = true)
+	List<ExpiredMainQuest> expireActiveMainQuests(@Param("today") LocalDate today, @Param("now") LocalDateTime now,
+		@Param("fromUserId") long fromUserId, @Param("toUserId") long toUserId, @Param("limit") int limit);
 
 	Optional<UsersMainQuest> findByIdAndStatusNotIn(Long mainQuestId, List<QuestStatus> status);
 
 	List<UsersMainQuest> findByUsersIdAndStatusIn(Long userId, List<QuestStatus> list, Sort sort);
+
+	// 사용자가 해당 상태로 보유한 메인 퀘스트의 마스터 ID만 조회
+	@Query("SELECT umq.mainQuest.id FROM UsersMainQuest umq WHERE umq.users.id = :userId AND umq.status = :status")
+	List<Long> findMainQuestIdsByUsersIdAndStatus(@Param("userId") Long userId, @Param("status") QuestStatus status);
+
+	// 퀘스트 상세 화면용: 속성과 서브 퀘스트(수행 카운터 포함)를 함께 조회
+	@EntityGraph(attributePaths = {"attribute1", "attribute2", "usersSubQuests"})
+	Optional<UsersMainQuest> findByIdAndUsersIdAndStatusIn(Long id, Long userId, Collection<QuestStatus> statuses);
+
+	// 완료/실패한 메인 퀘스트 히스토리 첫 페이지 (idx_users_main_quest_history 사용)
+	@Query(value = "SELECT * FROM users_main_quest " +
+		"WHERE users_id = :userId AND status IN ('COMPLETED', 'FAILED') " +
+		"ORDER BY updated_at DESC, id DESC " +
+		"LIMIT :limit",
+		nativeQuery = true)
+	List<UsersMainQuest> findHistoryFirstPage(@Param("userId") Long userId, @Param("limit") int limit);
+
+	// 커서(updated_at, id) 이후의 히스토리 페이지
+	@Query(value = "SELECT * FROM users_main_quest " +
+		"WHERE users_id = :userId AND status IN ('COMPLETED', 'FAILED') " +
+		"AND (updated_at, id) < (:updatedAt, :id) " +
+		"ORDER BY updated_at DESC, id DESC " +
+		"LIMIT :limit",
+		nativeQuery = true)
+	List<UsersMainQuest> findHistoryPageAfter(@Param("userId") Long userId, @Param("updatedAt") LocalDateTime updatedAt,
+		@Param("id") Long id, @Param("limit") int limit);
+
+	// 완료 조건을 충족한 서브 퀘스트 수를 원자적으로 증가
+	@Query(value = "UPDATE users_main_quest SET satisfied_sub_quest_count = satisfied_sub_quest_count + 1 " +
+		"WHERE id = :id RETURNING satisfied_sub_quest_count",
+		nativeQuery = true)
+	Integer incrementSatisfiedSubQuestCount(@Param("id") Long id);
+
+	// 서브 퀘스트들이 속한 진행 중인 메인 퀘스트의 충족 서브 퀘스트 수를 다시 세어 어긋난 행만 바로잡음
+	@Modifying
+	@Query(value = "UPDATE users_main_quest umq SET satisfied_sub_quest_count = c.satisfied " +
+		"FROM (SELECT main_quest_id, CAST(COUNT(*) FILTER (WHERE satisfied) AS integer) AS satisfied " +
+		"FROM users_sub_quest WHERE main_quest_id IN " +
+		"(SELECT main_quest_id FROM users_sub_quest WHERE id IN (:subQuestIds)) " +
+		"GROUP BY main_quest_id) c " +
+		"WHERE umq.id = c.main_quest_id AND umq.status = 'ACTIVE' AND umq.satisfied_sub_quest_count <> c.satisfied",
+		nativeQuery = true)
+	int reconcileSatisfiedSubQuestCounts(@Param("subQuestIds") Collection<Long> subQuestIds);
+
+	// 모든 서브 퀘스트가 충족되었는데 아직 ACTIVE인 메인 퀘스트를 완료 상태로 확정 (동시 요청 중 한 번만 1을 반환)
+	@Modifying
+	@Query(value = "UPDATE users_main_quest SET status = 'COMPLETED', updated_at = :now " +
+		"WHERE id = :id AND status = 'ACTIVE' AND satisfied_sub_quest_count >= sub_quest_count",
+		nativeQuery = true)
+	int completeIfAllSatisfied(@Param("id") Long id, @Param("now") LocalDateTime now);
 }
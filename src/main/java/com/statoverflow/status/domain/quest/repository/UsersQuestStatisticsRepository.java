@@ -0,0 +1,60 @@
+package com.statoverflow.status.domain.quest.repository;
+
+import java.util.Collection;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.statoverflow.status.domain.quest.entity.UsersQuestStatistics;
+
+public interface UsersQuestStatisticsRepository extends JpaRepository<UsersQuestStatistics, Long> {
+
+	// 종료된 메인 퀘스트 기록을 원자적으로 누적 (행이 없으면 생성)
+	@Modifying
+	@Query(value = "INSERT INTO users_quest_statistics (users_id, total_main_quests, total_sub_quest_verifications, " +
+		"completion_rate_sum, duration_days_sum, updated_at) " +
+		"VALUES (:userId, :mainQuests, :verifications, :completionRateSum, :durationDaysSum, now()) " +
+		"ON CONFLICT (users_id) DO UPDATE SET " +
+		"total_main_quests = users_quest_statistics.total_main_quests + EXCLUDED.total_main_quests, " +
+		"total_sub_quest_verifications = users_quest_statistics.total_sub_quest_verifications + EXCLUDED.total_sub_quest_verifications, " +
+		"completion_rate_sum = users_quest_statistics.completion_rate_sum + EXCLUDED.completion_rate_sum, " +
+		"duration_days_sum = users_quest_statistics.duration_days_sum + EXCLUDED.duration_days_sum, " +
+		"updated_at = EXCLUDED.updated_at",
+		nativeQuery = true)
+	int accumulate(
+		@Param("userId") Long userId,
+		@Param("mainQuests") int mainQuests,
+		@Param("verifications") int verifications,
+		@Param("completionRateSum") long completionRateSum,
+		@Param("durationDaysSum") long durationDaysSum
+	);
+
+	// 원본 테이블(메인/서브 퀘스트)에서 사용자들의 기록을 다시 계산해 덮어씀
+	// 수행 횟수는 실시간 누적(recordFinished/recordExpired)과 같은 기준인 completed_log_count를 사용합니다.
+	@Modifying
+	@Query(value = "INSERT INTO users_quest_statistics (users_id, total_main_quests, total_sub_quest_verifications, " +
+		"completion_rate_sum, duration_days_sum, updated_at) " +
+		"SELECT u.id, COUNT(q.id), COALESCE(SUM(q.done), 0), " +
+		"COALESCE(SUM(CASE WHEN q.req > 0 THEN q.done * 100 / q.req ELSE 0 END), 0), " +
+		"COALESCE(SUM(GREATEST(q.finished - q.start_date + 1, 0)), 0), now() " +
+		"FROM users u " +
+		"LEFT JOIN (SELECT umq.id, umq.users_id, umq.start_date, " +
+		"CASE WHEN umq.status = 'COMPLETED' THEN CAST(umq.updated_at AS date) ELSE umq.end_date END AS finished, " +
+		"COALESCE(SUM(usq.required_log), 0) AS req, COALESCE(SUM(usq.completed_log_count), 0) AS done " +
+		"FROM users_main_quest umq " +
+		"LEFT JOIN users_sub_quest usq ON usq.main_quest_id = umq.id " +
+		"WHERE umq.status IN ('COMPLETED', 'FAILED') AND umq.users_id IN (:userIds) " +
+		"GROUP BY umq.id) q ON q.users_id = u.id " +
+		"WHERE u.id IN (:userIds) " +
+		"GROUP BY u.id " +
+		"ON CONFLICT (users_id) DO UPDATE SET " +
+		"total_main_quests = EXCLUDED.total_main_quests, " +
+		"total_sub_quest_verifications = EXCLUDED.total_sub_quest_verifications, " +
+		"completion_rate_sum = EXCLUDED.completion_rate_sum, " +
+		"duration_days_sum = EXCLUDED.duration_days_sum, " +
+		"updated_at = EXCLUDED.updated_at",
+		nativeQuery = true)
+	int rebuild(@Param("userIds") Collection<Long> userIds);
+}
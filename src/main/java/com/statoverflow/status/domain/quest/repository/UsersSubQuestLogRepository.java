@@ -1,9 +1,13 @@
 package com.statoverflow.status.domain.quest.repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.statoverflow.status.domain.quest.entity.UsersSubQuest;
 import com.statoverflow.status.domain.quest.entity.UsersSubQuestLog;
@@ -13,4 +17,25 @@ public interface UsersSubQuestLogRepository extends JpaRepository<UsersSubQuestL
 	int countByUsersSubQuestIdAndCreatedAtAfter(Long usersSubQuestId, LocalDateTime startDate);
 
 	List<UsersSubQuestLog> findByUsersSubQuestId(Long id);
+
+	// 히스토리 페이지에 포함될 수행 날짜 (before 이전, 최신순)
+	@Query("SELECT DISTINCT CAST(l.createdAt AS LocalDate) AS logDate FROM UsersSubQuestLog l " +
+		"JOIN l.usersSubQuest usq " +
+		"WHERE usq.users.id = :userId AND usq.mainQuest.id = :mainQuestId AND l.createdAt < :before " +
+		"ORDER BY logDate DESC")
+	List<LocalDate> findHistoryDates(@Param("userId") Long userId, @Param("mainQuestId") Long mainQuestId,
+		@Param("before") LocalDateTime before, Pageable pageable);
+
+	// 히스토리 화면용: 서브 퀘스트, 메인 퀘스트, 속성을 함께 조회
+	@Query("SELECT l FROM UsersSubQuestLog l " +
+		"JOIN FETCH l.usersSubQuest usq " +
+		"JOIN FETCH usq.mainQuest mq " +
+		"JOIN FETCH usq.attribute1 " +
+		"LEFT JOIN FETCH usq.attribute2 " +
+		"WHERE usq.users.id = :userId AND mq.id = :mainQuestId " +
+		"AND l.createdAt >= :from AND l.createdAt < :before " +
+		"ORDER BY l.createdAt DESC, l.id DESC")
+	List<UsersSubQuestLog> findHistoryWithSubQuest(@Param("userId") Long userId,
+		@Param("mainQuestId") Long mainQuestId, @Param("from") LocalDateTime from,
+		@Param("before") LocalDateTime before);
 }
@@ -1,11 +1,18 @@
 package com.statoverflow.status.domain.quest.repository;
 
+import com.statoverflow.status.domain.quest.dto.MainQuestProgressCount;
+import com.statoverflow.status.domain.quest.dto.SubQuestLogCounter;
 import com.statoverflow.status.domain.quest.enums.QuestStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.statoverflow.status.domain.quest.entity.UsersSubQuest;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,5 +26,108 @@ public interface UsersSubQuestRepository extends JpaRepository<UsersSubQuest, Lo
 
     Optional<UsersSubQuest> findByIdAndUsersIdAndStatus(Long id, Long userId, QuestStatus questStatus);
 
-	List<UsersSubQuest> findByStatus(QuestStatus questStatus);
+	// 오늘의 서브 퀘스트 화면용: 메인 퀘스트와 속성을 함께 조회
+	@Query("SELECT usq FROM UsersSubQuest usq " +
+		"JOIN FETCH usq.mainQuest " +
+		"JOIN FETCH usq.attribute1 " +
+		"LEFT JOIN FETCH usq.attribute2 " +
+		"WHERE usq.users.id = :userId AND usq.status = :status")
+	List<UsersSubQuest> findWithMainQuestByUsersIdAndStatus(@Param("userId") Long userId,
+		@Param("status") QuestStatus status);
+
+	@Query("SELECT usq FROM UsersSubQuest usq " +
+		"JOIN FETCH usq.mainQuest mq " +
+		"JOIN FETCH usq.attribute1 " +
+		"LEFT JOIN FETCH usq.attribute2 " +
+		"WHERE usq.users.id = :userId AND mq.id = :mainQuestId AND usq.status = :status")
+	List<UsersSubQuest> findWithMainQuestByUsersIdAndMainQuestIdAndStatus(@Param("userId") Long userId,
+		@Param("mainQuestId") Long mainQuestId, @Param("status") QuestStatus status);
+
+	// 수행 로그 카운터를 원자적으로 증가 (저장된 주기가 지났으면 현재 주기 수행 횟수를 1부터 다시 셈)
+	// 기간 안의 수행이면 수행 비트맵의 해당 일자 비트도 함께 설정하며, 이미 설정되어 있으면(오늘 수행함) 갱신하지 않고 null 반환
+	@Query(value = "UPDATE users_sub_quest " +
+		"SET completed_log_count = completed_log_count + 1, " +
+		"current_period_count = CASE WHEN period_start = :periodStart THEN current_period_count + 1 ELSE 1 END, " +
+		"period_start = :periodStart, " +
+		"completion_days = CASE WHEN :day >= 0 AND :day < length(completion_days) * 8 " +
+		"THEN set_bit(completion_days, :day, 1) ELSE completion_days END " +
+		"WHERE id = :id " +
+		"AND CASE WHEN :day >= 0 AND :day < length(completion_days) * 8 " +
+		"THEN get_bit(completion_days, :day) = 0 ELSE true END " +
+		"RETURNING completed_log_count AS \"completedLogCount\", current_period_count AS \"currentPeriodCount\", " +
+		"completion_days AS \"completionDays\"",
+		nativeQuery = true)
+	SubQuestLogCounter incrementLogCount(@Param("id") Long id, @Param("periodStart") LocalDate periodStart,
+		@Param("day") int day);
+
+	// 메인 퀘스트들의 진행률 계산용 필요/수행 로그 수 합계
+	@Query(value = "SELECT usq.main_quest_id AS \"mainQuestId\", " +
+		"CAST(COALESCE(SUM(usq.required_log), 0) AS integer) AS \"totalRequired\", " +
+		"CAST(SUM(usq.completed_log_count) AS integer) AS \"totalCompleted\" " +
+		"FROM users_sub_quest usq " +
+		"WHERE usq.main_quest_id IN (:mainQuestIds) " +
+		"GROUP BY usq.main_quest_id",
+		nativeQuery = true)
+	List<MainQuestProgressCount> sumProgressByMainQuestIds(@Param("mainQuestIds") Collection<Long> mainQuestIds);
+
+	// (fromUserId, toUserId] 사용자들의 서브 퀘스트 ID를 afterId 이후부터 limit개 조회
+	@Query(value = "SELECT id FROM users_sub_quest " +
+		"WHERE id > :afterId AND users_id > :fromUserId AND users_id <= :toUserId " +
+		"ORDER BY id LIMIT :limit",
+		nativeQuery = true)
+	List<Long> findIdsAfter(@Param("afterId") Long afterId, @Param("fromUserId") long fromUserId,
+		@Param("toUserId") long toUserId, @Param("limit") int limit);
+
+	// 로그 테이블 기준으로 카운터, 수행 비트맵, 충족 여부를 다시 계산해 어긋난 행만 바로잡고, 보정한 행 수를 반환
+	// 수행은 하루에 한 번만 반영되므로(incrementLogCount) 카운터는 로그 행 수가 아닌 수행 일수로 셉니다.
+	// 충족 여부는 진행 중(ACTIVE)인 서브 퀘스트만 다시 계산합니다.
+	@Modifying
+	@Query(value = "UPDATE users_sub_quest usq " +
+		"SET completed_log_count = c.completed, current_period_count = c.period_count, period_start = c.period_start, " +
+		"completion_days = c.completion_days, satisfied = c.satisfied " +
+		"FROM (SELECT s.id, ps.period_start, bm.completion_days, " +
+		"CAST(COUNT(ld.day) AS integer) AS completed, " +
+		"CAST(COUNT(ld.day) FILTER (WHERE ld.day >= ps.period_start) AS integer) AS period_count, " +
+		"CASE WHEN s.status <> 'ACTIVE' THEN s.satisfied " +
+		"WHEN s.frequency_type = 'DAILY' THEN COUNT(ld.day) >= umq.end_date - umq.start_date + 1 " +
+		"WHEN s.frequency_type LIKE 'WEEKLY%' THEN wk.weeks >= CEIL((umq.end_date - umq.start_date + 1) / 7.0) " +
+		"ELSE COUNT(ld.day) >= CAST(substring(s.frequency_type FROM 9) AS integer) END AS satisfied " +
+		"FROM users_sub_quest s " +
+		"JOIN users_main_quest umq ON umq.id = s.main_quest_id " +
+		"CROSS JOIN LATERAL (SELECT CASE " +
+		"WHEN s.frequency_type = 'DAILY' THEN CAST(:today AS date) " +
+		"WHEN s.frequency_type LIKE 'WEEKLY%' " +
+		"THEN umq.start_date + ((CAST(:today AS date) - umq.start_date) / 7) * 7 " +
+		"ELSE umq.start_date END AS period_start) ps " +
+		// 수행 비트맵: 바이트 n / 8의 하위 n % 8번째 비트 (V1_13과 같은 길이와 비트 순서)
+		"CROSS JOIN LATERAL (SELECT decode(COALESCE(string_agg(lpad(to_hex(COALESCE(bits.v, 0)), 2, '0'), '' " +
+		"ORDER BY b.n), ''), 'hex') AS completion_days " +
+		"FROM generate_series(0, (umq.end_date - umq.start_date + 1 + 7) / 8 - 1) AS b(n) " +
+		"LEFT JOIN (SELECT d.offset_day / 8 AS n, SUM(1 << (d.offset_day % 8)) AS v " +
+		"FROM (SELECT DISTINCT CAST(l.created_at AS date) - umq.start_date AS offset_day " +
+		"FROM users_sub_quest_log l WHERE l.users_sub_quest_id = s.id " +
+		"AND CAST(l.created_at AS date) BETWEEN umq.start_date AND umq.end_date) d " +
+		"GROUP BY d.offset_day / 8) bits ON bits.n = b.n) bm " +
+		// 주간 퀘스트: 주당 필요 일수를 채운 주차 수
+		"CROSS JOIN LATERAL (SELECT COUNT(*) AS weeks FROM (SELECT 1 " +
+		"FROM users_sub_quest_log l WHERE l.users_sub_quest_id = s.id " +
+		"AND CAST(l.created_at AS date) BETWEEN umq.start_date AND umq.end_date " +
+		"GROUP BY (CAST(l.created_at AS date) - umq.start_date) / 7 " +
+		"HAVING COUNT(DISTINCT CAST(l.created_at AS date)) >= CASE WHEN s.frequency_type LIKE 'WEEKLY%' " +
+		"THEN CAST(substring(s.frequency_type FROM 8) AS integer) ELSE 1 END) w) wk " +
+		"LEFT JOIN (SELECT DISTINCT l.users_sub_quest_id, CAST(l.created_at AS date) AS day " +
+		"FROM users_sub_quest_log l WHERE l.users_sub_quest_id IN (:ids)) ld ON ld.users_sub_quest_id = s.id " +
+		"WHERE s.id IN (:ids) " +
+		"GROUP BY s.id, s.status, s.satisfied, s.frequency_type, umq.start_date, umq.end_date, " +
+		"ps.period_start, bm.completion_days, wk.weeks) c " +
+		"WHERE usq.id = c.id " +
+		"AND (usq.completed_log_count, usq.current_period_count, usq.period_start, usq.completion_days, usq.satisfied) " +
+		"IS DISTINCT FROM (c.completed, c.period_count, c.period_start, c.completion_days, c.satisfied)",
+		nativeQuery = true)
+	int reconcileLogCounters(@Param("ids") Collection<Long> ids, @Param("today") LocalDate today);
+
+	// 아직 충족되지 않은 서브 퀘스트만 충족 처리 (동시 요청에서도 한 번만 1을 반환)
+	@Modifying
+	@Query("UPDATE UsersSubQuest usq SET usq.satisfied = true WHERE usq.id = :id AND usq.satisfied = false")
+	int markSatisfied(@Param("id") Long id);
 }
@@ -0,0 +1,74 @@
+package com.statoverflow.status.domain.quest.service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.statoverflow.status.domain.quest.dto.ExpiredMainQuest;
+import com.statoverflow.status.domain.quest.repository.UsersMainQuestRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 자정 스케줄러의 메인 퀘스트 만료 처리를 벌크 UPDATE로 수행합니다.
+ * 서브 퀘스트의 주기별 달성 상태는 저장하지 않고 조회 시 계산하므로(UsersSubQuest.statusOn) 자정에 되돌릴 필요가 없습니다.
+ * 엔티티를 영속성 컨텍스트에 올리지 않고, 한 번에 최대 CHUNK_SIZE행씩 별도 트랜잭션으로 갱신하여
+ * 트랜잭션 크기와 행 잠금 시간을 제한합니다. 갱신된 행이 CHUNK_SIZE보다 적으면 종료합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class QuestRolloverService {
+
+	private static final int CHUNK_SIZE = 1000;
+
+	private final UsersMainQuestRepository usersMainQuestRepository;
+	private final UsersQuestStatisticsService usersQuestStatisticsService;
+	private final TransactionTemplate transactionTemplate;
+	private final Clock clock;
+
+	/**
+	 * (fromUserId, toUserId] 사용자들의 기간이 지난 ACTIVE 메인 퀘스트를 FAILED 처리하고,
+	 * 같은 트랜잭션에서 사용자별 누적 기록에 반영합니다.
+	 */
+	public Result expireMainQuests(LocalDate today, long fromUserId, long toUserId) {
+		return runInChunks(() -> {
+			List<ExpiredMainQuest> expired = usersMainQuestRepository.expireActiveMainQuests(
+				today, LocalDateTime.now(clock), fromUserId, toUserId, CHUNK_SIZE);
+			usersQuestStatisticsService.recordExpired(expired);
+			return expired.size();
+		});
+	}
+
+	private Result runInChunks(IntSupplier chunk) {
+		long startedAt = System.currentTimeMillis();
+		int rows = 0;
+		int chunks = 0;
+
+		while (true) {
+			Integer updated = transactionTemplate.execute(status -> chunk.getAsInt());
+			int count = updated == null ? 0 : updated;
+			rows += count;
+			chunks++;
+			if (count < CHUNK_SIZE) {
+				break;
+			}
+		}
+
+		return new Result(rows, chunks, System.currentTimeMillis() - startedAt);
+	}
+
+	/**
+	 * 작업별 처리 결과
+	 *
+	 * @param rows 갱신한 행 수
+	 * @param chunks 실행한 청크(트랜잭션) 수
+	 * @param elapsedMillis 소요 시간(ms)
+	 */
+	public record Result(int rows, int chunks, long elapsedMillis) {
+	}
+}
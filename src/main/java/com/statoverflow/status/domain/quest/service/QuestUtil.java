@@ -2,20 +2,17 @@ package com.statoverflow.status.domain.quest.service;
 
 import static com.statoverflow.status.global.error.ErrorType.*;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Random;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import com.statoverflow.status.domain.attribute.repository.AttributeRepository;
+import com.statoverflow.status.domain.master.catalog.MasterCatalog;
 import com.statoverflow.status.domain.master.entity.Attribute;
 import com.statoverflow.status.domain.master.entity.QuestTheme;
-import com.statoverflow.status.domain.quest.repository.ThemeRepository;
 import com.statoverflow.status.global.error.ErrorType;
 import com.statoverflow.status.global.exception.CustomException;
 
@@ -28,16 +25,15 @@ import lombok.extern.slf4j.Slf4j;
  * 주요 기능:
  * - 속성(Attribute) 비트마스크 계산
  * - 랜덤 선택 로직
- * - 테마 조회 및 검증
+ * - 테마 조회 및 검증 (마스터 카탈로그 사용)
  */
 @Slf4j
 @RequiredArgsConstructor
 @Component
 public class QuestUtil {
 
-	private final AttributeRepository attributeRepository;
-	private final ThemeRepository themeRepository;
-	private final Random random;
+	private final MasterCatalog masterCatalog;
+	private final RandomSampler randomSampler;
 
 	@Value("${status.quest.attribute.select_attribute_num}")
 	private int SELECTED_ATTRIBUTE_NUM;
@@ -70,7 +66,7 @@ public class QuestUtil {
 		log.debug("속성별 테마 조회 시작 - attributes: {}", attributes);
 
 		int combinedBitmask = calculateCombinedBitmask(attributes);
-		List<QuestTheme> questThemes = themeRepository.findAllByAttributes(combinedBitmask);
+		List<QuestTheme> questThemes = masterCatalog.current().themesMatching(combinedBitmask);
 
 		log.info("속성별 테마 조회 완료 - 조회된 테마 개수: {}", questThemes.size());
 		return questThemes;
@@ -78,7 +74,7 @@ public class QuestUtil {
 
 
 	public List<QuestTheme> getAllThemes() {
-		return themeRepository.findAll();
+		return masterCatalog.current().themes();
 	}
 
 	/**
@@ -100,20 +96,8 @@ public class QuestUtil {
 			return Collections.emptyList();
 		}
 
-		// 수정: ArrayList로 복사하여 mutable 리스트 생성
-		List<T> mutableList = new ArrayList<>(items);
-
-		if (count >= items.size()) {
-			log.debug("요청 개수가 전체 개수 이상 - 전체 리스트 셔플하여 반환");
-			Collections.shuffle(mutableList, random);
-			return mutableList;
-		}
-
-		Collections.shuffle(mutableList, random);
-
-		List<T> selected = mutableList.stream()
-			.limit(count)
-			.collect(Collectors.toList());
+		// 부분 Fisher–Yates로 필요한 개수만 추출 (요청 개수가 전체 이상이면 전체를 섞어 반환)
+		List<T> selected = randomSampler.sample(items, count);
 
 		log.debug("랜덤 선택 완료 - 전체: {}개, 선택: {}개", items.size(), selected.size());
 		return selected;
@@ -160,12 +144,12 @@ public class QuestUtil {
 	 * 속성 ID로부터 비트마스크 값 조회
 	 */
 	private int getAttributeBitmask(Integer attributeId) {
-		return attributeRepository.findById(attributeId)
-			.map(Attribute::getBitMask)
-			.orElseThrow(() -> {
-				log.warn("존재하지 않는 속성 ID - attributeId: {}", attributeId);
-				return new CustomException(INVALID_ATTRIBUTES);
-			});
+		Attribute attribute = attributeId == null ? null : masterCatalog.current().attribute(attributeId);
+		if (attribute == null) {
+			log.warn("존재하지 않는 속성 ID - attributeId: {}", attributeId);
+			throw new CustomException(INVALID_ATTRIBUTES);
+		}
+		return attribute.getBitMask();
 	}
 
 }
\ No newline at end of file
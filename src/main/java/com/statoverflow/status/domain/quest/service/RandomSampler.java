@@ -0,0 +1,114 @@
+package com.statoverflow.status.domain.quest.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 후보 목록에서 k개를 비복원 추출하는 샘플러입니다.
+ *
+ * - 부분 Fisher–Yates: 앞의 k자리만 섞으므로 후보 수 n과 무관하게 O(k)번 난수를 뽑습니다.
+ *   k가 작으면 교환 내역만 작은 배열에 기록해 후보 리스트를 복사하지 않습니다.
+ * - 난수원은 스레드별로 분리되어 요청 스레드 사이에 시드 경합이 없습니다.
+ *   기본은 ThreadLocalRandom, status.quest.random-seed를 지정하면 시드에서 분기한 스레드별 SplittableRandom을 사용합니다.
+ */
+@Component
+public class RandomSampler {
+
+	private final ThreadLocal<SplittableRandom> seeded;
+
+	public RandomSampler(@Value("${status.quest.random-seed:#{null}}") Long seed) {
+		if (seed == null) {
+			this.seeded = null;
+		} else {
+			SplittableRandom root = new SplittableRandom(seed);
+			this.seeded = ThreadLocal.withInitial(() -> {
+				synchronized (root) {
+					return root.split();
+				}
+			});
+		}
+	}
+
+	/**
+	 * 현재 스레드의 난수원
+	 */
+	public RandomGenerator generator() {
+		return seeded == null ? ThreadLocalRandom.current() : seeded.get();
+	}
+
+	/**
+	 * items에서 count개를 무작위 순서로 비복원 추출합니다. count가 후보 수 이상이면 전체를 섞어 반환합니다.
+	 */
+	public <T> List<T> sample(List<T> items, int count) {
+		int n = items.size();
+		int k = Math.min(count, n);
+		if (k <= 0) {
+			return Collections.emptyList();
+		}
+
+		RandomGenerator random = generator();
+		List<T> selected = new ArrayList<>(k);
+		if ((long)k * k <= n) {
+			sampleSparse(items, k, random, selected);
+		} else {
+			sampleDense(items, k, random, selected);
+		}
+		return selected;
+	}
+
+	// 교환된 위치만 (위치 -> 원래 인덱스) 쌍으로 기록하는 부분 Fisher–Yates. 기록은 최대 k개입니다.
+	private <T> void sampleSparse(List<T> items, int k, RandomGenerator random, List<T> selected) {
+		int n = items.size();
+		int[] positions = new int[k];
+		int[] values = new int[k];
+		int swapped = 0;
+
+		for (int i = 0; i < k; i++) {
+			int j = i + random.nextInt(n - i);
+			int slot = indexOf(positions, swapped, j);
+			selected.add(items.get(slot < 0 ? j : values[slot]));
+
+			// 위치 j에 위치 i의 값을 옮겨 둡니다. (위치 i는 다시 뽑히지 않으므로 기록하지 않음)
+			int iSlot = indexOf(positions, swapped, i);
+			int valueAtI = iSlot < 0 ? i : values[iSlot];
+			if (slot < 0) {
+				positions[swapped] = j;
+				values[swapped++] = valueAtI;
+			} else {
+				values[slot] = valueAtI;
+			}
+		}
+	}
+
+	// 인덱스 배열 위에서 앞의 k자리만 섞는 부분 Fisher–Yates
+	private <T> void sampleDense(List<T> items, int k, RandomGenerator random, List<T> selected) {
+		int n = items.size();
+		int[] indexes = new int[n];
+		for (int i = 0; i < n; i++) {
+			indexes[i] = i;
+		}
+		for (int i = 0; i < k; i++) {
+			int j = i + random.nextInt(n - i);
+			int picked = indexes[j];
+			indexes[j] = indexes[i];
+			indexes[i] = picked;
+			selected.add(items.get(picked));
+		}
+	}
+
+	private static int indexOf(int[] positions, int size, int position) {
+		for (int i = 0; i < size; i++) {
+			if (positions[i] == position) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,127 @@
+package com.statoverflow.status.domain.quest.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 퀘스트 생성 흐름(테마/메인 퀘스트/서브 퀘스트)의 사용자별 리롤 덱입니다.
+ *
+ * - 첫 조회(get-*) 때 후보 ID를 섞어 앞의 count개를 반환하고, 나머지를 Redis 리스트에 짧은 TTL로 저장합니다.
+ * - 리롤은 리스트 앞에서 count개를 꺼내므로(LPOP count) 후보 재계산이나 DB 조회 없이 O(count)입니다.
+ *   이미 보여준 ID는 덱에서 빠져 있으므로 클라이언트가 제외 목록을 보낼 필요가 없습니다.
+ * - 덱이 만료되었거나 다 쓰면 후보를 다시 계산해 새 덱을 만듭니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RerollDeck {
+
+	static final String KEY_PREFIX = "quest:deck:";
+
+	// 기존 덱 삭제, 새 덱 저장, TTL 설정을 한 번에 수행합니다. (ARGV[1]: TTL 초, ARGV[2..]: 덱 ID)
+	// 중간에 실패해 TTL 없는 덱이 남거나, 동시 요청의 저장이 한 리스트에 섞이지 않도록 원자적으로 실행합니다.
+	private static final RedisScript<Long> STORE = new DefaultRedisScript<>(
+		"redis.call('del', KEYS[1]) "
+			+ "for i = 2, #ARGV, 1000 do "
+			+ "redis.call('rpush', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV))) end "
+			+ "if #ARGV > 1 then redis.call('expire', KEYS[1], ARGV[1]) end "
+			+ "return #ARGV - 1",
+		Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RandomSampler randomSampler;
+
+	@Value("${status.quest.deck-ttl-seconds:600}")
+	private long ttlSeconds;
+
+	/**
+	 * 새 덱을 만들고 앞의 count개를 반환합니다.
+	 */
+	public List<Long> deal(Flow flow, Long userId, Long scope, List<Long> candidates, int count) {
+		List<Long> shuffled = randomSampler.sample(candidates, candidates.size());
+		return store(key(flow, userId, scope), shuffled, count);
+	}
+
+	/**
+	 * 덱에서 다음 count개를 꺼냅니다.
+	 * 덱이 없거나 모자라면 candidates로 새 덱을 만들어 채우며, 이때 avoid에 있는 ID는 뒤로 미룹니다.
+	 *
+	 * @param candidates 덱을 다시 만들 때 사용할 전체 후보 ID
+	 * @param exclude 반환하면 안 되는 ID (예: 이미 선택한 서브 퀘스트)
+	 * @param avoid 가능하면 반환하지 않을 ID (예: 클라이언트가 보낸 제외 목록)
+	 */
+	public List<Long> redeal(Flow flow, Long userId, Long scope, int count,
+		Supplier<List<Long>> candidates, Collection<Long> exclude, Collection<Long> avoid) {
+		String key = key(flow, userId, scope);
+		Set<Long> excluded = new HashSet<>(exclude);
+
+		List<Long> drawn = new ArrayList<>(count);
+		for (String id : pop(key, count)) {
+			Long value = Long.valueOf(id);
+			if (!excluded.contains(value)) {
+				drawn.add(value);
+			}
+		}
+		if (drawn.size() == count) {
+			return drawn;
+		}
+
+		log.debug("리롤 덱 재생성 - flow: {}, userId: {}, scope: {}, 덱에서 꺼낸 개수: {}", flow, userId, scope, drawn.size());
+		excluded.addAll(drawn);
+		Set<Long> avoided = new HashSet<>(avoid);
+		List<Long> fresh = new ArrayList<>();
+		List<Long> later = new ArrayList<>();
+		for (Long id : candidates.get()) {
+			if (!excluded.contains(id)) {
+				(avoided.contains(id) ? later : fresh).add(id);
+			}
+		}
+
+		List<Long> next = new ArrayList<>(randomSampler.sample(fresh, fresh.size()));
+		next.addAll(randomSampler.sample(later, later.size()));
+		drawn.addAll(store(key, next, count - drawn.size()));
+		return drawn;
+	}
+
+	// 앞의 count개를 반환하고 나머지를 덱으로 저장
+	private List<Long> store(String key, List<Long> ids, int count) {
+		int dealt = Math.min(count, ids.size());
+		Object[] args = new Object[ids.size() - dealt + 1];
+		args[0] = String.valueOf(ttlSeconds);
+		for (int i = dealt; i < ids.size(); i++) {
+			args[i - dealt + 1] = String.valueOf(ids.get(i));
+		}
+
+		redisTemplate.execute(STORE, List.of(key), args);
+		return new ArrayList<>(ids.subList(0, dealt));
+	}
+
+	private List<String> pop(String key, int count) {
+		if (count <= 0) {
+			return List.of();
+		}
+		List<String> popped = redisTemplate.opsForList().leftPop(key, count);
+		return popped != null ? popped : List.of();
+	}
+
+	private String key(Flow flow, Long userId, Long scope) {
+		return KEY_PREFIX + flow.name().toLowerCase() + ":" + userId + ":" + scope;
+	}
+
+	public enum Flow {
+		THEME, MAIN_QUEST, SUB_QUEST
+	}
+}
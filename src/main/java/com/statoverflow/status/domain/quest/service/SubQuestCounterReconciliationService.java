@@ -0,0 +1,66 @@
+package com.statoverflow.status.domain.quest.service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.statoverflow.status.domain.quest.repository.UsersMainQuestRepository;
+import com.statoverflow.status.domain.quest.repository.UsersSubQuestRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서브 퀘스트에 저장된 수행 카운터, 수행 비트맵, 충족 여부가 users_sub_quest_log와 일치하는지 점검하고,
+ * 어긋난 행과 메인 퀘스트의 충족 서브 퀘스트 수를 바로잡습니다.
+ * 서브 퀘스트 ID 순으로 CHUNK_SIZE씩 나누어 각 청크를 별도 트랜잭션으로 처리합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SubQuestCounterReconciliationService {
+
+	private static final int CHUNK_SIZE = 500;
+
+	private final UsersSubQuestRepository usersSubQuestRepository;
+	private final UsersMainQuestRepository usersMainQuestRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final Clock clock;
+
+	// 보정한 서브 퀘스트 수를 반환합니다.
+	public int reconcile() {
+		return reconcile(0L, Long.MAX_VALUE);
+	}
+
+	// (fromUserId, toUserId] 사용자들의 서브 퀘스트만 점검하고, 보정한 서브 퀘스트 수를 반환합니다.
+	public int reconcile(long fromUserId, long toUserId) {
+		LocalDate today = LocalDate.now(clock);
+		int fixed = 0;
+		long afterId = 0L;
+
+		while (true) {
+			List<Long> ids = usersSubQuestRepository.findIdsAfter(afterId, fromUserId, toUserId, CHUNK_SIZE);
+			if (ids.isEmpty()) {
+				break;
+			}
+			Integer chunkFixed = transactionTemplate.execute(status -> {
+				int fixedRows = usersSubQuestRepository.reconcileLogCounters(ids, today);
+				if (fixedRows > 0) {
+					usersMainQuestRepository.reconcileSatisfiedSubQuestCounts(ids);
+				}
+				return fixedRows;
+			});
+			if (chunkFixed != null && chunkFixed > 0) {
+				log.warn("서브 퀘스트 수행 카운터 불일치 보정: {}건 (id {} ~ {})",
+					chunkFixed, ids.get(0), ids.get(ids.size() - 1));
+				fixed += chunkFixed;
+			}
+			afterId = ids.get(ids.size() - 1);
+		}
+
+		return fixed;
+	}
+}
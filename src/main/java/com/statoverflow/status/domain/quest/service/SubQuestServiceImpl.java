@@ -1,20 +1,19 @@
 package com.statoverflow.status.domain.quest.service;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.statoverflow.status.domain.attribute.dto.AttributeDto;
+import com.statoverflow.status.domain.master.catalog.MasterCatalog;
 import com.statoverflow.status.domain.master.entity.MainSubQuest;
 import com.statoverflow.status.domain.master.entity.SubQuest;
 import com.statoverflow.status.domain.quest.dto.request.RerollSubQuestRequestDto;
 import com.statoverflow.status.domain.quest.dto.response.SubQuestResponseDto;
 import com.statoverflow.status.domain.quest.enums.FrequencyType;
-import com.statoverflow.status.domain.quest.repository.MainSubQuestRepository;
 import com.statoverflow.status.domain.quest.service.interfaces.SubQuestService;
 import com.statoverflow.status.domain.quest.service.interfaces.UsersSubQuestService;
 import com.statoverflow.status.global.error.ErrorType;
@@ -28,19 +27,18 @@ import lombok.extern.slf4j.Slf4j;
  *
  * 주요 기능:
  * - 사용자별 서브 퀘스트 조회 및 추천
- * - 서브 퀘스트 리롤 처리
- * - 우선순위 기반 퀘스트 선택
+ * - 서브 퀘스트 리롤 처리 (사용자별 리롤 덱)
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class SubQuestServiceImpl implements SubQuestService {
 
-	private final MainSubQuestRepository mainSubQuestRepository;
+	private final MasterCatalog masterCatalog;
 	private final UsersSubQuestService usersSubQuestService;
 	private final QuestUtil questUtil;
 	private final SubQuestDtoConverter dtoConverter;
-	private final SubQuestRerollProcessor rerollProcessor;
+	private final RerollDeck rerollDeck;
 
 	@Value("${status.quest.subquest.output_subquest_num}")
 	private int OUTPUT_SUBQUEST_NUM;
@@ -57,8 +55,9 @@ public class SubQuestServiceImpl implements SubQuestService {
 		log.info("서브 퀘스트 조회 시작 - mainQuestId: {}, userId: {}",
 			mainQuestId, userId);
 
-		List<SubQuestResponseDto> availableSubQuests = getAvailableSubQuests(mainQuestId, userId);
-		List<SubQuestResponseDto> selectedSubQuests = questUtil.selectRandoms(availableSubQuests, OUTPUT_SUBQUEST_NUM);
+		List<Long> selectedIds = rerollDeck.deal(RerollDeck.Flow.SUB_QUEST, userId, mainQuestId,
+			getAvailableSubQuestIds(mainQuestId), OUTPUT_SUBQUEST_NUM);
+		List<SubQuestResponseDto> selectedSubQuests = convertToResponseDtos(mainQuestId, selectedIds);
 
 		log.info("서브 퀘스트 조회 완료 - 선택된 개수: {}", selectedSubQuests.size());
 		logSubQuestIds("최종 선택된 서브 퀘스트", selectedSubQuests);
@@ -68,6 +67,8 @@ public class SubQuestServiceImpl implements SubQuestService {
 
 	/**
 	 * 서브 퀘스트 리롤 처리
+	 * 선택된 퀘스트를 유지하고 나머지 자리를 리롤 덱에서 채웁니다.
+	 * 덱이 만료되었거나 모자라면 이전에 받았던 퀘스트(gottenSubQuests)를 뒤로 미룬 새 덱에서 채웁니다.
 	 *
 	 * @param rerollRequest 리롤 요청 정보
 	 * @param userId 사용자 ID
@@ -80,11 +81,11 @@ public class SubQuestServiceImpl implements SubQuestService {
 
 		validateRerollRequest(rerollRequest);
 
-		List<SubQuestResponseDto> availableSubQuests = getAvailableSubQuests(
-			rerollRequest.mainQuest(), userId);
-
-		List<SubQuestResponseDto> rerolledSubQuests = rerollProcessor.processReroll(
-			rerollRequest, availableSubQuests, OUTPUT_SUBQUEST_NUM);
+		Long mainQuestId = rerollRequest.mainQuest();
+		int rerollRequiredCount = OUTPUT_SUBQUEST_NUM - rerollRequest.selectedSubQuests().size();
+		List<Long> rerolledIds = rerollDeck.redeal(RerollDeck.Flow.SUB_QUEST, userId, mainQuestId, rerollRequiredCount,
+			() -> getAvailableSubQuestIds(mainQuestId), rerollRequest.selectedSubQuests(), rerollRequest.gottenSubQuests());
+		List<SubQuestResponseDto> rerolledSubQuests = convertToResponseDtos(mainQuestId, rerolledIds);
 
 		log.info("서브 퀘스트 리롤 완료 - 선택된 개수: {}", rerolledSubQuests.size());
 		logSubQuestIds("리롤된 서브 퀘스트", rerolledSubQuests);
@@ -95,19 +96,28 @@ public class SubQuestServiceImpl implements SubQuestService {
 	// ==================== Private Methods ====================
 
 	/**
-	 * 사용자가 선택 가능한 서브 퀘스트 목록 조회
+	 * 사용자가 선택 가능한 서브 퀘스트 ID 목록 조회 (마스터 카탈로그)
 	 */
-	private List<SubQuestResponseDto> getAvailableSubQuests(Long mainQuestId, Long userId) {
-		// 1. 조건에 맞는 서브 퀘스트 조회
-		List<MainSubQuest> availableSubQuests = mainSubQuestRepository.findAllByMainQuestId(mainQuestId);
+	private List<Long> getAvailableSubQuestIds(Long mainQuestId) {
+		List<MainSubQuest> availableSubQuests = masterCatalog.current().mainSubQuestsOf(mainQuestId);
 
-		// 2. DTO 변환
-		List<SubQuestResponseDto> subQuestDtos = dtoConverter.convertToResponseDtos(availableSubQuests);
+		log.debug("사용 가능한 서브 퀘스트 조회 완료 - 후보: {}개", availableSubQuests.size());
 
-		log.debug("사용 가능한 서브 퀘스트 조회 완료 - 후보: {}개, 사용 가능: {}개",
-			availableSubQuests.size(), subQuestDtos.size());
+		return availableSubQuests.stream()
+			.map(mainSubQuest -> mainSubQuest.getSubQuest().getId())
+			.collect(Collectors.toList());
+	}
 
-		return subQuestDtos;
+	/**
+	 * 선택된 서브 퀘스트 ID만 DTO로 변환 (카탈로그에서 사라진 ID는 제외)
+	 */
+	private List<SubQuestResponseDto> convertToResponseDtos(Long mainQuestId, List<Long> subQuestIds) {
+		MasterCatalog.Snapshot catalog = masterCatalog.current();
+		List<MainSubQuest> mainSubQuests = subQuestIds.stream()
+			.map(subQuestId -> catalog.mainSubQuest(mainQuestId, subQuestId))
+			.filter(Objects::nonNull)
+			.collect(Collectors.toList());
+		return dtoConverter.convertToResponseDtos(mainSubQuests);
 	}
 
 	/**
@@ -115,7 +125,7 @@ public class SubQuestServiceImpl implements SubQuestService {
 	 */
 	private List<MainSubQuest> findCandidateSubQuests(List<Integer> attributes, Long mainQuestId) {
 		int attributesBitmask = questUtil.calculateCombinedBitmask(attributes);
-		List<MainSubQuest> candidates = mainSubQuestRepository.findAllByMainQuestIdAndAttributes(mainQuestId, attributesBitmask);
+		List<MainSubQuest> candidates = masterCatalog.current().mainSubQuestsMatching(mainQuestId, attributesBitmask);
 
 		log.debug("후보 서브 퀘스트 조회 완료 - 개수: {}", candidates.size());
 		logMainSubQuestIds("후보 서브 퀘스트", candidates);
@@ -164,6 +174,9 @@ public class SubQuestServiceImpl implements SubQuestService {
 @Slf4j
 class SubQuestDtoConverter {
 
+	private final RandomSampler randomSampler;
+	private final MasterCatalog masterCatalog;
+
 	/**
 	 * MainSubQuest 엔티티 리스트를 SubQuestResponseDto 리스트로 변환
 	 */
@@ -183,14 +196,14 @@ class SubQuestDtoConverter {
 		List<AttributeDto> attributes = AttributeDto.fromMainSubQuest(mainSubQuest);
 
 		// 랜덤 빈도 타입 선택
-		FrequencyType frequencyType = FrequencyType.getRandomFrequencyType();
+		FrequencyType frequencyType = FrequencyType.getRandomFrequencyType(randomSampler.generator());
 
 		// 액션 단위 정보 추출
 		String actionUnitTypeUnit = subQuest.getActionUnitType().getUnit();
 		int actionUnitNumValue = subQuest.getActionUnitType().getDefaultCount();
 
 		// 설명 생성 (플레이스홀더 치환)
-		String formattedDescription = formatQuestDescription(subQuest.getName(), actionUnitNumValue);
+		String formattedDescription = formatQuestDescription(subQuest, actionUnitNumValue);
 
 		log.debug("서브 퀘스트 DTO 변환 완료 - id: {}, frequencyType: {}", subQuest.getId(), frequencyType);
 
@@ -207,125 +220,9 @@ class SubQuestDtoConverter {
 	/**
 	 * 퀘스트 설명에서 플레이스홀더를 실제 값으로 치환
 	 */
-	private String formatQuestDescription(String template, int actionUnitNum) {
-		String formatted = String.format(template, actionUnitNum);
-		log.debug("퀘스트 설명 변환 - '{}' -> '{}'", template, formatted);
+	private String formatQuestDescription(SubQuest subQuest, int actionUnitNum) {
+		String formatted = masterCatalog.current().renderDescription(subQuest.getId(), subQuest.getName(), actionUnitNum);
+		log.debug("퀘스트 설명 변환 - '{}' -> '{}'", subQuest.getName(), formatted);
 		return formatted;
 	}
 }
-
-/**
- * 서브 퀘스트 리롤 처리 전용 서비스
- * 복잡한 리롤 로직을 별도 클래스로 분리하여 가독성 향상
- */
-@Service
-@RequiredArgsConstructor
-@Slf4j
-class SubQuestRerollProcessor {
-
-	private final QuestUtil questUtil;
-
-	/**
-	 * 서브 퀘스트 리롤 처리
-	 *
-	 * @param rerollRequest 리롤 요청 정보
-	 * @param availableSubQuests 사용 가능한 서브 퀘스트 목록
-	 * @param outputQuestNum 출력할 퀘스트 개수
-	 * @return 리롤된 서브 퀘스트 목록
-	 */
-	public List<SubQuestResponseDto> processReroll(RerollSubQuestRequestDto rerollRequest,
-		List<SubQuestResponseDto> availableSubQuests,
-		int outputQuestNum) {
-		int rerollRequiredCount = outputQuestNum - rerollRequest.selectedSubQuests().size();
-
-		// 기존 선택된 퀘스트 제외
-		List<SubQuestResponseDto> candidateSubQuests = excludeSelectedSubQuests(
-			availableSubQuests, rerollRequest.selectedSubQuests());
-
-		// 우선순위 기반 퀘스트 선택
-		return selectQuestsWithPriority(candidateSubQuests, rerollRequest.gottenSubQuests(), rerollRequiredCount);
-	}
-
-	/**
-	 * 이미 선택된 서브 퀘스트를 후보 목록에서 제외
-	 */
-	private List<SubQuestResponseDto> excludeSelectedSubQuests(List<SubQuestResponseDto> allSubQuests,
-		List<Long> selectedSubQuests) {
-		Set<Long> excludeIds = Set.copyOf(selectedSubQuests);
-
-		List<SubQuestResponseDto> candidates = questUtil.filterExcluding(
-			allSubQuests, excludeIds, SubQuestResponseDto::id);
-
-		log.debug("선택된 퀘스트 제외 완료 - 전체: {}개, 제외: {}개, 후보: {}개",
-			allSubQuests.size(), excludeIds.size(), candidates.size());
-
-		return candidates;
-	}
-
-	/**
-	 * 우선순위 기반 퀘스트 선택
-	 * 1순위: 새로운 퀘스트 (이전에 받지 않은 퀘스트)
-	 * 2순위: 재사용 가능한 퀘스트 (이전에 받았던 퀘스트)
-	 */
-	private List<SubQuestResponseDto> selectQuestsWithPriority(List<SubQuestResponseDto> candidates,
-		List<Long> gottenSubQuests,
-		int requiredCount) {
-		QuestPriorityGroups groups = categorizeQuestsByPriority(candidates, gottenSubQuests);
-
-		log.debug("우선순위별 퀘스트 분류 - 새로운: {}개, 재사용 가능: {}개",
-			groups.newQuests().size(), groups.reusableQuests().size());
-
-		return selectFromPriorityGroups(groups, requiredCount);
-	}
-
-	/**
-	 * 후보 퀘스트를 우선순위별로 분류
-	 */
-	private QuestPriorityGroups categorizeQuestsByPriority(List<SubQuestResponseDto> candidates,
-		List<Long> gottenSubQuests) {
-		Set<Long> gottenIds = Set.copyOf(gottenSubQuests);
-
-		List<SubQuestResponseDto> newQuests = candidates.stream()
-			.filter(quest -> !gottenIds.contains(quest.id()))
-			.collect(Collectors.toList());
-
-		List<SubQuestResponseDto> reusableQuests = candidates.stream()
-			.filter(quest -> gottenIds.contains(quest.id()))
-			.collect(Collectors.toList());
-
-		return new QuestPriorityGroups(newQuests, reusableQuests);
-	}
-
-	/**
-	 * 우선순위 그룹에서 필요한 개수만큼 선택
-	 */
-	private List<SubQuestResponseDto> selectFromPriorityGroups(QuestPriorityGroups groups, int requiredCount) {
-		List<SubQuestResponseDto> selectedQuests = new ArrayList<>();
-
-		// 1순위: 새로운 퀘스트에서 우선 선택
-		int newQuestCount = Math.min(groups.newQuests().size(), requiredCount);
-		selectedQuests.addAll(questUtil.selectRandoms(groups.newQuests(), newQuestCount));
-
-		// 2순위: 부족한 만큼 재사용 퀘스트에서 선택
-		int remainingCount = requiredCount - newQuestCount;
-		if (remainingCount > 0) {
-			selectedQuests.addAll(questUtil.selectRandoms(groups.reusableQuests(), remainingCount));
-		}
-
-		log.debug("우선순위 기반 선택 완료 - 새로운: {}개, 재사용: {}개",
-			newQuestCount, remainingCount);
-
-		return selectedQuests;
-	}
-
-	/**
-	 * 우선순위별 퀘스트 그룹을 담는 레코드
-	 *
-	 * @param newQuests 새로운 퀘스트 목록 (이전에 받지 않은 퀘스트)
-	 * @param reusableQuests 재사용 가능한 퀘스트 목록 (이전에 받았던 퀘스트)
-	 */
-	private record QuestPriorityGroups(
-		List<SubQuestResponseDto> newQuests,
-		List<SubQuestResponseDto> reusableQuests
-	) {}
-}
\ No newline at end of file
@@ -1,15 +1,14 @@
 package com.statoverflow.status.domain.quest.service;
 
 import java.util.List;
-import java.util.ArrayList;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import com.statoverflow.status.domain.attribute.repository.AttributeRepository;
-import com.statoverflow.status.domain.master.entity.Attribute;
+import com.statoverflow.status.domain.master.catalog.MasterCatalog;
 import com.statoverflow.status.domain.master.entity.QuestTheme;
 import com.statoverflow.status.domain.quest.dto.response.ThemeResponseDto;
 import com.statoverflow.status.domain.quest.service.interfaces.ThemeService;
@@ -21,132 +20,83 @@ import lombok.extern.slf4j.Slf4j;
  * 퀘스트 테마 관련 비즈니스 로직을 처리하는 서비스 클래스
  *
  * 주요 기능:
- * 1. 속성 기반 테마 조회 및 랜덤 선택
- * 2. 기존 테마를 제외한 리롤 기능
+ * 1. 테마 조회 및 랜덤 선택 (사용자별 리롤 덱 생성)
+ * 2. 리롤 덱에서 다음 테마를 꺼내는 리롤 기능
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ThemeServiceImpl implements ThemeService {
 
-	private final AttributeRepository attributeRepository;
+	// 테마 덱은 사용자당 하나
+	private static final Long ALL_THEMES = 0L;
+
+	private final MasterCatalog masterCatalog;
 	@Value("${status.quest.theme.output_theme_num}")
 	private int OUTPUT_THEME_NUM;
 
 	private final QuestUtil questUtil;
+	private final RerollDeck rerollDeck;
 
 	/**
-	 * 주어진 속성들에 매칭되는 테마들 중에서 랜덤하게 선택하여 반환
+	 * 전체 테마 중에서 랜덤하게 선택하여 반환하고, 나머지로 리롤 덱을 만듭니다.
 	 *
-	 * @param attributes 테마 선택 기준이 되는 속성 목록
+	 * @param userId 사용자 ID
 	 * @return 랜덤 선택된 테마 응답 DTO 목록
 	 */
 	@Override
-	public List<ThemeResponseDto> getThemes() {
-
-		List<Integer> attributes = getAllAttributes();
-
-		List<ThemeResponseDto> candidateThemes = getCandidateThemes(attributes);
-		List<ThemeResponseDto> selectedThemes = selectRandomThemes(candidateThemes);
+	public List<ThemeResponseDto> getThemes(Long userId) {
+		List<Long> themeIds = rerollDeck.deal(RerollDeck.Flow.THEME, userId, ALL_THEMES,
+			getCandidateThemeIds(), OUTPUT_THEME_NUM);
+		List<ThemeResponseDto> selectedThemes = convertToResponseDtos(themeIds);
 
 		logFinalSelection("테마 조회", selectedThemes);
 		return selectedThemes;
 	}
 
-	private List<Integer> getAllAttributes() {
-		return attributeRepository.findAll().stream().map(Attribute::getId).collect(Collectors.toList());
-	}
-
 	/**
-	 * 특정 테마들을 제외하고 새로운 테마들을 랜덤하게 선택하여 반환 (리롤)
+	 * 리롤 덱에서 다음 테마들을 꺼내 반환 (리롤)
+	 * 덱이 만료되었거나 모자라면 themesToExclude를 뒤로 미룬 새 덱에서 채웁니다.
 	 *
-	 * @param attributes 테마 선택 기준이 되는 속성 목록
-	 * @param themesToExclude 제외할 테마 ID 목록
+	 * @param themesToExclude 제외할 테마 ID 목록 (선택)
+	 * @param userId 사용자 ID
 	 * @return 리롤된 테마 응답 DTO 목록
 	 */
 	@Override
-	public List<ThemeResponseDto> rerollThemes(List<Integer> themesToExclude) {
+	public List<ThemeResponseDto> rerollThemes(List<Integer> themesToExclude, Long userId) {
+		log.info("테마 리롤 시작 - userId: {}, 제외할 테마: {}", userId, themesToExclude);
 
-		List<Integer> attributes = getAllAttributes();
-
-		log.info("테마 리롤 시작 - 속성: {}, 제외할 테마: {}", attributes, themesToExclude);
-
-		List<ThemeResponseDto> candidateThemes = getCandidateThemes(attributes);
 		Set<Long> excludeIds = convertToLongSet(themesToExclude);
-
-		List<ThemeResponseDto> selectedThemes = selectRerollThemes(candidateThemes, excludeIds);
+		List<Long> themeIds = rerollDeck.redeal(RerollDeck.Flow.THEME, userId, ALL_THEMES, OUTPUT_THEME_NUM,
+			this::getCandidateThemeIds, List.of(), excludeIds);
+		List<ThemeResponseDto> selectedThemes = convertToResponseDtos(themeIds);
 
 		logFinalSelection("테마 리롤", selectedThemes);
 		return selectedThemes;
 	}
 
 	/**
-	 * 속성 기준으로 후보 테마들을 조회하고 DTO로 변환
+	 * 후보 테마 ID 목록 조회
 	 *
-	 * @param attributes 조회 기준 속성 목록
-	 * @return 후보 테마 DTO 목록
+	 * @return 후보 테마 ID 목록
 	 */
-	private List<ThemeResponseDto> getCandidateThemes(List<Integer> attributes) {
-		List<QuestTheme> matchingThemes = questUtil.getAllThemes();
-		log.info("속성 매칭 테마 조회 완료 - 총 {}개", matchingThemes.size());
-		log.debug("조회된 테마 ID: {}", this.extractIdsAtQuestTheme(matchingThemes));
-
-		return convertToResponseDtos(matchingThemes);
-	}
-
-	/**
-	 * 리롤 시 제외 테마를 고려하여 테마 선택
-	 *
-	 * @param candidateThemes 전체 후보 테마 목록
-	 * @param excludeIds 제외할 테마 ID Set
-	 * @return 선택된 테마 목록
-	 */
-	private List<ThemeResponseDto> selectRerollThemes(List<ThemeResponseDto> candidateThemes, Set<Long> excludeIds) {
-		// 제외 테마를 필터링한 사용 가능한 테마 목록
-		List<ThemeResponseDto> availableThemes = candidateThemes.stream()
-			.filter(theme -> !excludeIds.contains(theme.id()))
-			.collect(Collectors.toList());
-
-		log.debug("제외 필터링 후 사용 가능한 테마 - {}개", availableThemes.size());
-
-		// 사용 가능한 테마가 충분한 경우
-		if (availableThemes.size() >= OUTPUT_THEME_NUM) {
-			log.debug("충분한 테마 존재 - 제외된 테마만으로 선택");
-			return selectRandomThemes(availableThemes);
-		}
-
-		// 부족한 경우: availableThemes를 모두 포함하고, 부족한 개수만큼 제외된 테마에서 추가
-		log.debug("테마 부족으로 제외된 테마에서 추가 선택 - available: {}개, 필요: {}개",
-			availableThemes.size(), OUTPUT_THEME_NUM);
-
-		List<ThemeResponseDto> result = new ArrayList<>(questUtil.selectRandoms(availableThemes, availableThemes.size()));
-
-		// 제외된 테마들만 추출
-		List<ThemeResponseDto> excludedThemes = candidateThemes.stream()
-			.filter(theme -> excludeIds.contains(theme.id()))
-			.collect(Collectors.toList());
-
-		// 부족한 개수 계산
-		int needMore = OUTPUT_THEME_NUM - availableThemes.size();
-
-		// 제외된 테마에서 부족한 개수만큼 랜덤 선택하여 추가
-		List<ThemeResponseDto> additionalThemes = questUtil.selectRandoms(excludedThemes, needMore);
-		result.addAll(additionalThemes);
-
-		log.debug("최종 선택: available {}개 + excluded에서 {}개 = 총 {}개",
-			availableThemes.size(), additionalThemes.size(), result.size());
-
-		return result;
+	private List<Long> getCandidateThemeIds() {
+		List<QuestTheme> themes = questUtil.getAllThemes();
+		log.debug("후보 테마 조회 완료 - 총 {}개", themes.size());
+		return themes.stream().map(QuestTheme::getId).collect(Collectors.toList());
 	}
 
 	/**
-	 * QuestTheme 엔티티 목록을 ThemeResponseDto 목록으로 변환
+	 * 테마 ID 목록을 ThemeResponseDto 목록으로 변환 (카탈로그에서 사라진 ID는 제외)
 	 *
-	 * @param themes QuestTheme 엔티티 목록
+	 * @param themeIds 테마 ID 목록
 	 * @return ThemeResponseDto 목록
 	 */
-	private List<ThemeResponseDto> convertToResponseDtos(List<QuestTheme> themes) {
-		List<ThemeResponseDto> responseDtos = themes.stream()
+	private List<ThemeResponseDto> convertToResponseDtos(List<Long> themeIds) {
+		MasterCatalog.Snapshot catalog = masterCatalog.current();
+		List<ThemeResponseDto> responseDtos = themeIds.stream()
+			.map(catalog::theme)
+			.filter(Objects::nonNull)
 			.map(theme -> new ThemeResponseDto(theme.getId(), theme.getName()))
 			.collect(Collectors.toList());
 
@@ -161,6 +111,9 @@ public class ThemeServiceImpl implements ThemeService {
 	 * @return Long ID Set
 	 */
 	private Set<Long> convertToLongSet(List<Integer> integerIds) {
+		if (integerIds == null) {
+			return Set.of();
+		}
 		Set<Long> longIds = integerIds.stream()
 			.map(Integer::longValue)
 			.collect(Collectors.toSet());
@@ -168,23 +121,6 @@ public class ThemeServiceImpl implements ThemeService {
 		return longIds;
 	}
 
-	/**
-	 * 후보 테마 목록에서 랜덤하게 선택
-	 *
-	 * @param candidates 후보 테마 목록
-	 * @return 랜덤 선택된 테마 목록
-	 */
-	private List<ThemeResponseDto> selectRandomThemes(List<ThemeResponseDto> candidates) {
-		return questUtil.selectRandoms(candidates, OUTPUT_THEME_NUM);
-	}
-
-	/**
-	 * QuestTheme 목록에서 ID 추출 (로깅용)
-	 */
-	private List<Long> extractIdsAtQuestTheme(List<QuestTheme> themes) {
-		return themes.stream().map(QuestTheme::getId).collect(Collectors.toList());
-	}
-
 	/**
 	 * ThemeResponseDto 목록에서 ID 추출 (로깅용)
 	 */
@@ -199,4 +135,4 @@ public class ThemeServiceImpl implements ThemeService {
 		log.info("{} 완료 - 선택된 테마 {}개", operation, selectedThemes.size());
 		log.info("선택된 테마 ID: {}", extractIdsAtThemeResponseDto(selectedThemes));
 	}
-}
\ No newline at end of file
+}
@@ -6,19 +6,26 @@ import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.statoverflow.status.domain.master.catalog.MasterCatalog;
 import com.statoverflow.status.domain.master.entity.MainQuest;
 import com.statoverflow.status.domain.master.entity.MainSubQuest;
+import com.statoverflow.status.domain.master.entity.SubQuest;
 import com.statoverflow.status.domain.attribute.dto.AttributeDto;
+import com.statoverflow.status.domain.quest.dto.MainQuestProgressCount;
+import com.statoverflow.status.domain.quest.dto.QuestHistoryCursor;
 import com.statoverflow.status.domain.quest.dto.WithStatus;
 import com.statoverflow.status.domain.quest.dto.request.CreateQuestRequestDto;
 import com.statoverflow.status.domain.quest.dto.response.CreateQuestResponseDto;
+import com.statoverflow.status.domain.quest.dto.response.QuestHistoryPageDto;
 import com.statoverflow.status.domain.quest.dto.response.SubQuestResponseDto;
 import com.statoverflow.status.domain.quest.dto.response.UserQuestStatisticsDto;
 import com.statoverflow.status.domain.quest.dto.response.UsersMainQuestResponseDto;
@@ -58,12 +65,17 @@ public class UsersMainQuestServiceImpl implements UsersMainQuestService {
 	private final UsersMainQuestRepository usersMainQuestRepository;
 	private final UsersSubQuestRepository usersSubQuestRepository;
 	private final MainSubQuestRepository mainSubQuestRepository;
+	private final UsersQuestStatisticsService usersQuestStatisticsService;
+	private final MasterCatalog masterCatalog;
 
 	private static final Sort HISTORY_SORT =
 		Sort.by(DESC, "updatedAt").and(Sort.by(DESC, "id"));
 
 	private static final Sort DEFAULT_SORT =
 		Sort.by(ASC, "endDate").and(Sort.by(ASC, "id"));
+
+	private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
 	/**
 	 * 새로운 퀘스트를 생성합니다.
 	 *
@@ -114,8 +126,11 @@ public class UsersMainQuestServiceImpl implements UsersMainQuestService {
 	@Override
 	@Transactional(readOnly = true)
 	public List<UsersMainQuestResponseDto> getUsersMainQuests(Long userId) {
-		return getUsersMainQuestByUserIdAndStatus(userId, List.of(QuestStatus.ACTIVE), DEFAULT_SORT).stream()
-			.map(this::convertToResponseDto)
+		List<UsersMainQuest> usersMainQuests =
+			getUsersMainQuestByUserIdAndStatus(userId, List.of(QuestStatus.ACTIVE), DEFAULT_SORT);
+		Map<Long, QuestProgressInfo> progress = calculateQuestProgress(usersMainQuests);
+		return usersMainQuests.stream()
+			.map(usersMainQuest -> convertToResponseDto(usersMainQuest, progress))
 			.collect(Collectors.toList());
 	}
 
@@ -139,11 +154,13 @@ public class UsersMainQuestServiceImpl implements UsersMainQuestService {
 	 */
 	@Override
 	public WithStatus<UsersMainQuestResponseDto> getUsersMainQuestById(Long userId, Long mainQuestId) {
-		return getUsersMainQuestByUserIdAndStatus(userId, List.of(QuestStatus.ACTIVE, QuestStatus.FAILED, QuestStatus.COMPLETED), DEFAULT_SORT).stream()
-			.filter(quest -> Objects.equals(quest.getId(), mainQuestId))
-			.findFirst()
-			.map(usersMainQuest -> WithStatus.of(convertToResponseDto(usersMainQuest), usersMainQuest.getStatus()))
+		UsersMainQuest usersMainQuest = usersMainQuestRepository.findByIdAndUsersIdAndStatusIn(mainQuestId, userId,
+				List.of(QuestStatus.ACTIVE, QuestStatus.FAILED, QuestStatus.COMPLETED))
 			.orElseThrow(() -> new CustomException(ErrorType.MAINQUEST_NOT_FOUND));
+
+		// 서브 퀘스트는 함께 조회되었으므로 저장된 카운터로 바로 진행률을 계산합니다.
+		Map<Long, QuestProgressInfo> progress = Map.of(usersMainQuest.getId(), calculateQuestProgress(usersMainQuest));
+		return WithStatus.of(convertToResponseDto(usersMainQuest, progress), usersMainQuest.getStatus());
 	}
 
 	/**
@@ -153,57 +170,54 @@ public class UsersMainQuestServiceImpl implements UsersMainQuestService {
 	 * @return 누적 기록 정보
 	 */
 	@Override
+	@Transactional(readOnly = true)
 	public UserQuestStatisticsDto getUserStatistics(Long userId) {
-		List<UsersMainQuest> usersMainQuests =
-			getUsersMainQuestByUserIdAndStatus(
-				userId,
-				List.of(QuestStatus.COMPLETED, QuestStatus.FAILED),
-				DEFAULT_SORT
-			);
-		log.debug("유저 완료 메인퀘스트 수: {}", usersMainQuests.size());
-		int totalMainQuests = usersMainQuests.size();
-		if (totalMainQuests == 0) {
-			return new UserQuestStatisticsDto(0, 0, 0, 0);
-		}
-
-		// (2) 총 서브 퀘스트 인증 횟수 = 모든 USQ의 로그수 합
-		int totalSubQuestVerifications = usersMainQuests.stream()
-			.flatMap(umq -> umq.getUsersSubQuests().stream())
-			.mapToInt(usq -> usq.getLogs() == null ? 0 : usq.getLogs().size())
-			.sum();
-
-		// (3) 평균 완료율
-		int averageCompletionRate = (int)usersMainQuests.stream()
-			.map(this::calculateQuestProgress)
-			.mapToInt(QuestProgressInfo::getProgressPercentage)
-			.average()
-			.orElse(0);
-
-		// (4) 평균 수행 기간(일) = startDate ~ 완료/실패일
-		int averageDurationDays = (int)usersMainQuests.stream()
-			.mapToLong(umq -> {
-				LocalDate start = umq.getStartDate();
-				LocalDate finished = umq.getStatus() == QuestStatus.COMPLETED ? umq.getUpdatedAt().toLocalDate() : umq.getEndDate();
-				long days = ChronoUnit.DAYS.between(start, finished) + 1;
-				return Math.max(days, 0L);
-			})
-			.average()
-			.orElse(0);
-
-		return new UserQuestStatisticsDto(
-			totalMainQuests,
-			totalSubQuestVerifications,
-			averageCompletionRate,
-			averageDurationDays
-		);
+		return usersQuestStatisticsService.getStatistics(userId);
 	}
 
 	@Override
 	public List<WithStatus<UsersMainQuestResponseDto>> getUsersMainQuestHistory(Long userId) {
 		List<UsersMainQuest> umq = getUsersMainQuestByUserIdAndStatus(userId, Arrays.asList(QuestStatus.COMPLETED, QuestStatus.FAILED), HISTORY_SORT);
+		Map<Long, QuestProgressInfo> progress = calculateQuestProgress(umq);
 		return umq.stream()
-			.map(usersMainQuest -> WithStatus.of(convertToResponseDto(usersMainQuest), usersMainQuest.getStatus()))
+			.map(usersMainQuest -> WithStatus.of(convertToResponseDto(usersMainQuest, progress), usersMainQuest.getStatus()))
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * 완료/실패한 메인 퀘스트를 완료일 최신순으로 한 페이지씩 조회합니다.
+	 * (updated_at, id) 키셋으로 이어서 조회하므로 히스토리 길이와 무관하게 페이지 비용이 일정합니다.
+	 *
+	 * @param userId 사용자 ID
+	 * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+	 * @param size 페이지 크기
+	 * @return 퀘스트 목록과 다음 페이지 커서
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public QuestHistoryPageDto getUsersMainQuestHistory(Long userId, String cursor, int size) {
+		int pageSize = Math.min(Math.max(size, 1), MAX_HISTORY_PAGE_SIZE);
+
+		// 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+		List<UsersMainQuest> fetched;
+		if (cursor == null || cursor.isBlank()) {
+			fetched = usersMainQuestRepository.findHistoryFirstPage(userId, pageSize + 1);
+		} else {
+			QuestHistoryCursor after = QuestHistoryCursor.decode(cursor);
+			fetched = usersMainQuestRepository.findHistoryPageAfter(userId, after.updatedAt(), after.id(),
+				pageSize + 1);
+		}
+
+		boolean hasNext = fetched.size() > pageSize;
+		List<UsersMainQuest> page = hasNext ? fetched.subList(0, pageSize) : fetched;
+		Map<Long, QuestProgressInfo> progress = calculateQuestProgress(page);
+
+		List<WithStatus<UsersMainQuestResponseDto>> quests = page.stream()
+			.map(usersMainQuest -> WithStatus.of(convertToResponseDto(usersMainQuest, progress), usersMainQuest.getStatus()))
 			.collect(Collectors.toList());
+		String nextCursor = hasNext ? QuestHistoryCursor.from(page.get(page.size() - 1)).encode() : null;
+
+		return new QuestHistoryPageDto(quests, nextCursor);
 	}
 
 	// ==================== Private Helper Methods ====================
@@ -212,7 +226,7 @@ public class UsersMainQuestServiceImpl implements UsersMainQuestService {
 	 * MainQuest ID로 엔티티를 조회합니다.
 	 */
 	private MainQuest findMainQuestById(Long mainQuestId) {
-		return mainQuestRepository.findById(mainQuestId)
+		return mainQuestRepository.findWithAttributesById(mainQuestId)
 			.orElseThrow(() -> new CustomException(ErrorType.MAINQUEST_NOT_FOUND));
 	}
 
@@ -243,6 +257,7 @@ public class UsersMainQuestServiceImpl implements UsersMainQuestService {
 			.users(user)
 			.startDate(dto.startDate())
 			.endDate(dto.endDate())
+			.subQuestCount(dto.subQuests().size())
 			.build();
 
 		return usersMainQuestRepository.save(usersMainQuest);
@@ -250,29 +265,33 @@ public class UsersMainQuestServiceImpl implements UsersMainQuestService {
 
 	/**
 	 * 모든 서브 퀘스트들을 생성합니다.
+	 * 요청한 MainSubQuest를 한 번에 조회해 검증하고, 생성한 서브 퀘스트는 한 번에 저장(배치 INSERT)합니다.
 	 */
 	private List<UsersSubQuest> createUsersSubQuests(CreateQuestRequestDto dto, MainQuest mainQuest,
 		Users user, UsersMainQuest usersMainQuest) {
-		return dto.subQuests().stream()
-			.map(subQuestInfo -> createSingleSubQuest(subQuestInfo, dto, mainQuest, user, usersMainQuest))
+		Map<Long, MainSubQuest> mainSubQuests = findMainSubQuests(mainQuest.getId(), dto.subQuests());
+
+		List<UsersSubQuest> subQuests = dto.subQuests().stream()
+			.map(subQuestInfo -> createSingleSubQuest(subQuestInfo, mainSubQuests.get(subQuestInfo.id()), dto, user,
+				usersMainQuest))
 			.collect(Collectors.toList());
+		return usersSubQuestRepository.saveAll(subQuests);
 	}
 
 	/**
 	 * 개별 서브 퀘스트를 생성합니다.
 	 */
 	private UsersSubQuest createSingleSubQuest(CreateQuestRequestDto.SubQuestInfo subQuestInfo,
-		CreateQuestRequestDto dto, MainQuest mainQuest,
+		MainSubQuest mainSubQuest, CreateQuestRequestDto dto,
 		Users user, UsersMainQuest usersMainQuest) {
 
-		MainSubQuest mainSubQuest = findMainSubQuest(mainQuest.getId(), subQuestInfo.id());
 		double expMultiplier = calculateExperienceMultiplier(mainSubQuest, subQuestInfo.actionUnitNum());
 		int requiredLog = calculateRequiredLog(subQuestInfo.frequencyType(), dto.startDate(), dto.endDate());
 
 		UsersSubQuest.UsersSubQuestBuilder builder = UsersSubQuest.builder()
 			.users(user)
 			.mainQuest(usersMainQuest)
-			.description(formatDescription(mainSubQuest.getSubQuest().getName(), subQuestInfo.actionUnitNum()))
+			.description(formatDescription(mainSubQuest.getSubQuest(), subQuestInfo.actionUnitNum()))
 			.subQuest(mainSubQuest.getSubQuest())
 			.frequencyType(subQuestInfo.frequencyType())
 			.actionUnitNum(subQuestInfo.actionUnitNum())
@@ -286,18 +305,26 @@ public class UsersMainQuestServiceImpl implements UsersMainQuestService {
 				.exp2(calculateExperience(mainSubQuest.getExp2(), expMultiplier));
 		}
 
-		return usersSubQuestRepository.save(builder.build());
+		return builder.build();
 	}
 
 	/**
-	 * MainSubQuest를 조회합니다.
+	 * 요청한 서브 퀘스트의 MainSubQuest를 IN 조건 한 번으로 조회해 서브 퀘스트 ID별로 반환합니다.
+	 * 메인 퀘스트에 연결되지 않은 서브 퀘스트가 있으면 예외를 던집니다.
 	 */
-	private MainSubQuest findMainSubQuest(Long mainQuestId, Long subQuestId) {
-		MainSubQuest mainSubQuest = mainSubQuestRepository.findByMainQuestIdAndSubQuestId(mainQuestId, subQuestId);
-		if (mainSubQuest == null) {
+	private Map<Long, MainSubQuest> findMainSubQuests(Long mainQuestId,
+		List<CreateQuestRequestDto.SubQuestInfo> subQuestInfos) {
+		Set<Long> subQuestIds = subQuestInfos.stream()
+			.map(CreateQuestRequestDto.SubQuestInfo::id)
+			.collect(Collectors.toSet());
+
+		Map<Long, MainSubQuest> mainSubQuests = mainSubQuestRepository
+			.findAllByMainQuestIdAndSubQuestIdIn(mainQuestId, subQuestIds).stream()
+			.collect(Collectors.toMap(mainSubQuest -> mainSubQuest.getSubQuest().getId(), Function.identity()));
+		if (!mainSubQuests.keySet().containsAll(subQuestIds)) {
 			throw new CustomException(ErrorType.SUBQUEST_NOT_FOUND);
 		}
-		return mainSubQuest;
+		return mainSubQuests;
 	}
 
 	/**
@@ -344,8 +371,8 @@ public class UsersMainQuestServiceImpl implements UsersMainQuestService {
 	/**
 	 * 설명 문자열의 플레이스홀더를 실제 값으로 치환합니다.
 	 */
-	private String formatDescription(String description, int actionUnitNum) {
-		return description.replace("{actionUnitNum}", String.valueOf(actionUnitNum));
+	private String formatDescription(SubQuest subQuest, int actionUnitNum) {
+		return masterCatalog.current().bindDescription(subQuest.getId(), subQuest.getName(), actionUnitNum);
 	}
 
 	/**
@@ -401,7 +428,8 @@ public class UsersMainQuestServiceImpl implements UsersMainQuestService {
 	 */
 	private SubQuestResponseDto convertToSubQuestDto(UsersSubQuest subQuest) {
 		List<AttributeDto> attributes = AttributeDto.fromUsersSubQuest(subQuest);
-		String formattedDescription = String.format(subQuest.getDescription(), subQuest.getActionUnitNum());
+		String formattedDescription = masterCatalog.current().renderDescription(
+			subQuest.getSubQuest().getId(), subQuest.getDescription(), subQuest.getActionUnitNum());
 
 		return new SubQuestResponseDto(
 			subQuest.getId(),
@@ -416,8 +444,9 @@ public class UsersMainQuestServiceImpl implements UsersMainQuestService {
 	/**
 	 * UsersMainQuest를 UsersMainQuestResponseDto로 변환합니다.
 	 */
-	private UsersMainQuestResponseDto convertToResponseDto(UsersMainQuest usersMainQuest) {
-		QuestProgressInfo progressInfo = calculateQuestProgress(usersMainQuest);
+	private UsersMainQuestResponseDto convertToResponseDto(UsersMainQuest usersMainQuest,
+		Map<Long, QuestProgressInfo> progress) {
+		QuestProgressInfo progressInfo = progressOf(progress, usersMainQuest);
 		int totalDays = (int) (ChronoUnit.DAYS.between(
 			usersMainQuest.getStartDate(),
 			usersMainQuest.getEndDate()) + 1);
@@ -438,28 +467,53 @@ public class UsersMainQuestServiceImpl implements UsersMainQuestService {
 	}
 
 	/**
-	 * 퀘스트 진행률 정보를 계산합니다.
+	 * 퀘스트 목록의 진행률 정보를 계산합니다.
+	 * 서브 퀘스트의 수행 로그 카운터를 메인 퀘스트별로 합산하는 쿼리 한 번으로 처리합니다.
+	 */
+	private Map<Long, QuestProgressInfo> calculateQuestProgress(List<UsersMainQuest> usersMainQuests) {
+		if (usersMainQuests.isEmpty()) {
+			return Map.of();
+		}
+
+		List<Long> mainQuestIds = usersMainQuests.stream()
+			.map(UsersMainQuest::getId)
+			.toList();
+
+		return usersSubQuestRepository.sumProgressByMainQuestIds(mainQuestIds).stream()
+			.collect(Collectors.toMap(MainQuestProgressCount::getMainQuestId,
+				count -> QuestProgressInfo.of(count.getTotalRequired(), count.getTotalCompleted())));
+	}
+
+	/**
+	 * 서브 퀘스트가 이미 적재된 단일 퀘스트의 진행률 정보를 계산합니다.
 	 */
 	private QuestProgressInfo calculateQuestProgress(UsersMainQuest usersMainQuest) {
 		List<UsersSubQuest> subQuests = usersMainQuest.getUsersSubQuests();
 
 		int totalRequired = subQuests.stream()
-			.mapToInt(UsersSubQuest::getRequiredLog)
+			.mapToInt(subQuest -> subQuest.getRequiredLog() == null ? 0 : subQuest.getRequiredLog())
 			.sum();
 
 		int totalCompleted = subQuests.stream()
-			.mapToInt(subQuest -> subQuest.getLogs().size())
+			.mapToInt(UsersSubQuest::getCompletedLogCount)
 			.sum();
 
-		int progressPercentage = totalRequired > 0 ? (totalCompleted * 100 / totalRequired) : 0;
+		return QuestProgressInfo.of(totalRequired, totalCompleted);
+	}
 
-		return new QuestProgressInfo(totalRequired, totalCompleted, progressPercentage);
+	/**
+	 * 집계 결과에서 퀘스트의 진행률 정보를 꺼냅니다. 서브 퀘스트가 없으면 0%입니다.
+	 */
+	private QuestProgressInfo progressOf(Map<Long, QuestProgressInfo> progress, UsersMainQuest usersMainQuest) {
+		return progress.getOrDefault(usersMainQuest.getId(), QuestProgressInfo.EMPTY);
 	}
 
 	/**
 	 * 퀘스트 진행률 정보를 담는 내부 클래스
 	 */
 	private static class QuestProgressInfo {
+		private static final QuestProgressInfo EMPTY = new QuestProgressInfo(0, 0, 0);
+
 		private final int totalRequired;
 		private final int totalCompleted;
 		private final int progressPercentage;
@@ -470,6 +524,11 @@ public class UsersMainQuestServiceImpl implements UsersMainQuestService {
 			this.progressPercentage = progressPercentage;
 		}
 
+		static QuestProgressInfo of(int totalRequired, int totalCompleted) {
+			int progressPercentage = totalRequired > 0 ? (totalCompleted * 100 / totalRequired) : 0;
+			return new QuestProgressInfo(totalRequired, totalCompleted, progressPercentage);
+		}
+
 		public int getTotalRequired() { return totalRequired; }
 		public int getTotalCompleted() { return totalCompleted; }
 		public int getProgressPercentage() { return progressPercentage; }
@@ -0,0 +1,169 @@
+package com.statoverflow.status.domain.quest.service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.statoverflow.status.domain.quest.dto.ExpiredMainQuest;
+import com.statoverflow.status.domain.quest.dto.MainQuestProgressCount;
+import com.statoverflow.status.domain.quest.dto.response.UserQuestStatisticsDto;
+import com.statoverflow.status.domain.quest.entity.UsersMainQuest;
+import com.statoverflow.status.domain.quest.enums.QuestStatus;
+import com.statoverflow.status.domain.quest.repository.UsersQuestStatisticsRepository;
+import com.statoverflow.status.domain.quest.repository.UsersSubQuestRepository;
+import com.statoverflow.status.domain.users.repository.UsersRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 누적 퀘스트 기록 관리 서비스
+ *
+ * 주요 기능:
+ * - 메인 퀘스트 종료(COMPLETED/FAILED) 시 기록 누적
+ * - 누적 기록 조회 (기본 키 단건 조회)
+ * - 원본 테이블 기준 재계산 (사용자 CHUNK_SIZE명씩 별도 트랜잭션)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UsersQuestStatisticsService {
+
+	private static final int CHUNK_SIZE = 500;
+
+	private final UsersQuestStatisticsRepository usersQuestStatisticsRepository;
+	private final UsersSubQuestRepository usersSubQuestRepository;
+	private final UsersRepository usersRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final Clock clock;
+
+	/**
+	 * 사용자의 누적 기록을 조회합니다.
+	 */
+	@Transactional(readOnly = true)
+	public UserQuestStatisticsDto getStatistics(Long userId) {
+		return usersQuestStatisticsRepository.findById(userId)
+			.map(UserQuestStatisticsDto::from)
+			.orElse(UserQuestStatisticsDto.EMPTY);
+	}
+
+	/**
+	 * COMPLETED/FAILED로 바뀐 메인 퀘스트들을 사용자별 기록에 누적합니다.
+	 * 상태를 바꾼 트랜잭션 안에서 호출해야 상태 변경과 기록이 함께 반영됩니다.
+	 */
+	@Transactional
+	public void recordFinished(List<UsersMainQuest> mainQuests) {
+		record(mainQuests.stream()
+			.map(mainQuest -> new FinishedMainQuest(
+				mainQuest.getId(), mainQuest.getUsers().getId(), durationDays(mainQuest)))
+			.toList());
+	}
+
+	/**
+	 * 벌크 UPDATE로 FAILED 처리된 메인 퀘스트들을 사용자별 기록에 누적합니다.
+	 * 실패한 퀘스트의 수행 기간은 startDate ~ endDate 입니다.
+	 */
+	@Transactional
+	public void recordExpired(List<ExpiredMainQuest> mainQuests) {
+		record(mainQuests.stream()
+			.map(mainQuest -> new FinishedMainQuest(mainQuest.getId(), mainQuest.getUsersId(),
+				durationDays(mainQuest.getStartDate(), mainQuest.getEndDate())))
+			.toList());
+	}
+
+	private void record(List<FinishedMainQuest> mainQuests) {
+		if (mainQuests.isEmpty()) {
+			return;
+		}
+
+		Map<Long, MainQuestProgressCount> progress = usersSubQuestRepository
+			.sumProgressByMainQuestIds(mainQuests.stream().map(FinishedMainQuest::id).toList())
+			.stream()
+			.collect(Collectors.toMap(MainQuestProgressCount::getMainQuestId, Function.identity()));
+
+		Map<Long, StatisticsDelta> deltas = new HashMap<>();
+		for (FinishedMainQuest mainQuest : mainQuests) {
+			MainQuestProgressCount count = progress.get(mainQuest.id());
+			int required = count == null ? 0 : count.getTotalRequired();
+			int completed = count == null ? 0 : count.getTotalCompleted();
+
+			deltas.computeIfAbsent(mainQuest.userId(), id -> new StatisticsDelta())
+				.add(completed, required > 0 ? completed * 100 / required : 0, mainQuest.durationDays());
+		}
+
+		deltas.forEach((userId, delta) -> usersQuestStatisticsRepository.accumulate(
+			userId, delta.mainQuests, delta.verifications, delta.completionRateSum, delta.durationDaysSum));
+		log.debug("누적 기록 반영 - 메인 퀘스트 수: {}, 사용자 수: {}", mainQuests.size(), deltas.size());
+	}
+
+	/**
+	 * 모든 사용자의 누적 기록을 원본 테이블에서 다시 계산합니다.
+	 *
+	 * @return 재계산한 사용자 수
+	 */
+	public int rebuild() {
+		return rebuild(0L, Long.MAX_VALUE);
+	}
+
+	/**
+	 * (fromUserId, toUserId] 사용자들의 누적 기록을 원본 테이블에서 다시 계산합니다.
+	 *
+	 * @return 재계산한 사용자 수
+	 */
+	public int rebuild(long fromUserId, long toUserId) {
+		int rebuilt = 0;
+		long afterId = fromUserId;
+
+		while (true) {
+			List<Long> userIds = usersRepository.findIdsAfter(afterId, toUserId, CHUNK_SIZE);
+			if (userIds.isEmpty()) {
+				break;
+			}
+			Integer chunkRebuilt = transactionTemplate.execute(
+				status -> usersQuestStatisticsRepository.rebuild(userIds));
+			rebuilt += chunkRebuilt == null ? 0 : chunkRebuilt;
+			afterId = userIds.get(userIds.size() - 1);
+		}
+
+		return rebuilt;
+	}
+
+	// 수행 기간(일) = startDate ~ 완료일(COMPLETED는 오늘, FAILED는 endDate)
+	private long durationDays(UsersMainQuest mainQuest) {
+		LocalDate finished = mainQuest.getStatus() == QuestStatus.COMPLETED ? LocalDate.now(clock) : mainQuest.getEndDate();
+		return durationDays(mainQuest.getStartDate(), finished);
+	}
+
+	private long durationDays(LocalDate startDate, LocalDate finished) {
+		return Math.max(ChronoUnit.DAYS.between(startDate, finished) + 1, 0L);
+	}
+
+	private record FinishedMainQuest(Long id, Long userId, long durationDays) {
+	}
+
+	/**
+	 * 사용자별로 합산할 기록 증분
+	 */
+	private static class StatisticsDelta {
+		private int mainQuests;
+		private int verifications;
+		private long completionRateSum;
+		private long durationDaysSum;
+
+		void add(int verifications, int completionRate, long durationDays) {
+			this.mainQuests++;
+			this.verifications += verifications;
+			this.completionRateSum += completionRate;
+			this.durationDaysSum += durationDays;
+		}
+	}
+}
@@ -1,19 +1,23 @@
 package com.statoverflow.status.domain.quest.service;
 
+import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.statoverflow.status.domain.attribute.dto.AttributeDto;
 import com.statoverflow.status.domain.attribute.service.AttributeService;
+import com.statoverflow.status.domain.quest.dto.SubQuestLogCounter;
 import com.statoverflow.status.domain.quest.dto.SubQuestLogDto;
 import com.statoverflow.status.domain.quest.dto.response.QuestHistoryByDateDto;
 import com.statoverflow.status.domain.quest.dto.response.RewardResponseDto;
@@ -23,6 +27,7 @@ import com.statoverflow.status.domain.quest.entity.UsersSubQuest;
 import com.statoverflow.status.domain.quest.entity.UsersSubQuestLog;
 import com.statoverflow.status.domain.quest.enums.FrequencyType;
 import com.statoverflow.status.domain.quest.enums.QuestStatus;
+import com.statoverflow.status.domain.quest.repository.UsersMainQuestRepository;
 import com.statoverflow.status.domain.quest.repository.UsersSubQuestLogRepository;
 import com.statoverflow.status.domain.quest.repository.UsersSubQuestRepository;
 import com.statoverflow.status.domain.quest.service.interfaces.UsersSubQuestService;
@@ -48,9 +53,14 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional
 public class UsersSubQuestServiceImpl implements UsersSubQuestService {
 
+	private final UsersMainQuestRepository usersMainQuestRepository;
 	private final UsersSubQuestRepository usersSubQuestRepository;
 	private final UsersSubQuestLogRepository usersSubQuestLogRepository;
 	private final AttributeService attributeService;
+	private final UsersQuestStatisticsService usersQuestStatisticsService;
+	private final Clock clock;
+
+	private static final int MAX_HISTORY_PAGE_SIZE = 100;
 
 	/**
 	 * 사용자의 모든 오늘 할 수 있는 서브 퀘스트를 조회합니다.
@@ -79,18 +89,33 @@ public class UsersSubQuestServiceImpl implements UsersSubQuestService {
 
 	/**
 	 * 특정 메인 퀘스트의 서브 퀘스트 히스토리를 날짜별로 조회합니다.
+	 * before 이전의 수행 날짜를 최신순으로 최대 limit일까지 반환하며,
+	 * 다음 페이지는 마지막 날짜를 before로 넘겨 조회합니다.
 	 *
 	 * @param userId 사용자 ID
 	 * @param mainQuestId 메인 퀘스트 ID
+	 * @param before 이 날짜 이전의 기록만 조회 (null이면 최신부터)
+	 * @param limit 페이지에 포함할 최대 날짜 수
 	 * @return 날짜별 퀘스트 히스토리
 	 */
 	@Override
-	public List<QuestHistoryByDateDto> getSubQuestsLogs(Long userId, Long mainQuestId) {
+	@Transactional(readOnly = true)
+	public List<QuestHistoryByDateDto> getSubQuestsLogs(Long userId, Long mainQuestId, LocalDate before, int limit) {
+		LocalDateTime upperBound = (before != null ? before : LocalDate.now(clock).plusDays(1)).atStartOfDay();
+		int pageSize = Math.min(Math.max(limit, 1), MAX_HISTORY_PAGE_SIZE);
+
+		List<LocalDate> dates = usersSubQuestLogRepository.findHistoryDates(userId, mainQuestId, upperBound,
+			PageRequest.of(0, pageSize));
+		if (dates.isEmpty()) {
+			return List.of();
+		}
 
-		List<UsersSubQuest> subQuests = findSubQuestsWithHistory(userId, mainQuestId);
-		List<UsersSubQuestLog> allLogs = collectAllSubQuestLogs(subQuests);
+		LocalDateTime lowerBound = dates.get(dates.size() - 1).atStartOfDay();
+		List<UsersSubQuestLog> logs = usersSubQuestLogRepository.findHistoryWithSubQuest(userId, mainQuestId,
+			lowerBound, upperBound);
+		log.debug("히스토리 조회 - mainQuestId: {}, 날짜 수: {}, 로그 수: {}", mainQuestId, dates.size(), logs.size());
 
-		return groupLogsByDate(allLogs);
+		return groupLogsByDate(logs);
 	}
 
 	/**
@@ -107,17 +132,15 @@ public class UsersSubQuestServiceImpl implements UsersSubQuestService {
 		// 1. 서브 퀘스트 조회 및 검증
 		UsersSubQuest subQuest = findActiveSubQuestForCompletion(userId, logDto.id());
 
-		// 2. 완료 로그 생성
+		// 2. 수행 카운터 증가 및 완료 로그 생성
+		incrementLogCounter(subQuest);
 		createSubQuestLog(subQuest, logDto);
 
 		// 3. 서브 퀘스트 보상 지급
 		List<AttributeDto> subQuestRewards = grantSubQuestRewards(subQuest);
 
-		// 4. 서브 퀘스트 상태 업데이트
-		updateSubQuestStatus(subQuest);
-
-		// 5. 메인 퀘스트 완료 여부 확인 및 보상 지급
-		MainQuestCompletionResult mainQuestResult = checkAndCompleteMainQuest(subQuest.getMainQuest());
+		// 4. 메인 퀘스트 완료 여부 확인 및 보상 지급
+		MainQuestCompletionResult mainQuestResult = checkAndCompleteMainQuest(subQuest);
 
 		return new RewardResponseDto(subQuestRewards, mainQuestResult.rewards(), mainQuestResult.completed());
 	}
@@ -140,32 +163,44 @@ public class UsersSubQuestServiceImpl implements UsersSubQuestService {
 	// ==================== Private Helper Methods ====================
 
 	/**
-	 * 사용자의 활성 서브 퀘스트를 조회합니다.
+	 * 사용자의 활성 서브 퀘스트 중 오늘 수행 가능한 것을 조회합니다.
 	 */
 	private List<UsersSubQuest> findActiveSubQuests(Long userId) {
-		return usersSubQuestRepository.findByUsersIdAndStatus(userId, QuestStatus.ACTIVE);
+		return availableToday(usersSubQuestRepository.findWithMainQuestByUsersIdAndStatus(userId, QuestStatus.ACTIVE));
 	}
 
 	/**
-	 * 특정 메인 퀘스트의 활성 서브 퀘스트를 조회합니다.
+	 * 특정 메인 퀘스트의 활성 서브 퀘스트 중 오늘 수행 가능한 것을 조회합니다.
 	 */
 	private List<UsersSubQuest> findActiveSubQuestsByMainQuest(Long userId, Long mainQuestId) {
-		return usersSubQuestRepository.findByUsersIdAndMainQuestIdAndStatus(userId, mainQuestId, QuestStatus.ACTIVE);
+		return availableToday(usersSubQuestRepository.findWithMainQuestByUsersIdAndMainQuestIdAndStatus(userId,
+			mainQuestId, QuestStatus.ACTIVE));
 	}
 
 	/**
-	 * 히스토리 조회용 서브 퀘스트를 조회합니다.
+	 * 오늘 이미 수행했거나 이번 주 목표를 채운 서브 퀘스트를 제외합니다.
 	 */
-	private List<UsersSubQuest> findSubQuestsWithHistory(Long userId, Long mainQuestId) {
-		return usersSubQuestRepository.findByUsersIdAndMainQuestId(userId, mainQuestId);
+	private List<UsersSubQuest> availableToday(List<UsersSubQuest> subQuests) {
+		LocalDate today = LocalDate.now(clock);
+		return subQuests.stream()
+			.filter(subQuest -> subQuest.statusOn(today) == QuestStatus.ACTIVE)
+			.toList();
 	}
 
 	/**
 	 * 완료 가능한 활성 서브 퀘스트를 조회합니다.
 	 */
 	private UsersSubQuest findActiveSubQuestForCompletion(Long userId, Long subQuestId) {
-		return usersSubQuestRepository.findByIdAndUsersIdAndStatus(subQuestId, userId, QuestStatus.ACTIVE)
+		UsersSubQuest subQuest = usersSubQuestRepository.findByIdAndUsersIdAndStatus(subQuestId, userId,
+				QuestStatus.ACTIVE)
 			.orElseThrow(() -> new CustomException(ErrorType.COMPLETED_SUBQUEST));
+
+		QuestStatus status = subQuest.statusOn(LocalDate.now(clock));
+		if (status != QuestStatus.ACTIVE) {
+			log.debug("오늘 수행할 수 없는 서브 퀘스트 - subQuestId: {}, status: {}", subQuestId, status);
+			throw new CustomException(ErrorType.COMPLETED_SUBQUEST);
+		}
+		return subQuest;
 	}
 
 	/**
@@ -187,10 +222,12 @@ public class UsersSubQuestServiceImpl implements UsersSubQuestService {
 
 	/**
 	 * 단일 서브 퀘스트를 응답 DTO로 변환합니다.
+	 * 현재 주기 수행 횟수는 서브 퀘스트에 저장된 카운터를 사용합니다.
 	 */
 	private SubQuestResponseDto.UsersSubQuestResponseDto convertToUsersSubQuestResponseDto(UsersSubQuest subQuest) {
 		SubQuestResponseDto baseDto = convertToSubQuestResponseDto(subQuest);
-		QuestProgressInfo progressInfo = calculateQuestProgressInfo(subQuest);
+		QuestProgressInfo progressInfo = calculateQuestProgressInfo(subQuest,
+			subQuest.periodCountOn(LocalDate.now(clock)));
 
 		return new SubQuestResponseDto.UsersSubQuestResponseDto(
 			subQuest.getMainQuest().getId(),
@@ -216,22 +253,6 @@ public class UsersSubQuestServiceImpl implements UsersSubQuestService {
 		);
 	}
 
-	/**
-	 * 모든 서브 퀘스트의 로그를 수집합니다.
-	 */
-	private List<UsersSubQuestLog> collectAllSubQuestLogs(List<UsersSubQuest> subQuests) {
-		List<UsersSubQuestLog> allLogs = new ArrayList<>();
-
-		for (UsersSubQuest subQuest : subQuests) {
-			List<UsersSubQuestLog> logs = usersSubQuestLogRepository.findByUsersSubQuestId(subQuest.getId());
-			log.debug("서브 퀘스트 {} 로그 수: {}", subQuest.getId(), logs.size());
-			allLogs.addAll(logs);
-		}
-
-		log.debug("전체 수집된 로그 수: {}", allLogs.size());
-		return allLogs;
-	}
-
 	/**
 	 * 로그를 날짜별로 그룹화하여 히스토리 DTO를 생성합니다.
 	 */
@@ -239,8 +260,11 @@ public class UsersSubQuestServiceImpl implements UsersSubQuestService {
 		Map<LocalDate, List<UsersSubQuestLog>> groupedLogs = logs.stream()
 			.collect(Collectors.groupingBy(log -> log.getCreatedAt().toLocalDate()));
 
+		// 서브 퀘스트 진행 정보는 로그마다가 아니라 서브 퀘스트당 한 번만 계산합니다.
+		Map<Long, SubQuestResponseDto.UsersSubQuestResponseDto> subQuestDtos = new HashMap<>();
+
 		return groupedLogs.entrySet().stream()
-			.map(this::convertToHistoryDto)
+			.map(entry -> convertToHistoryDto(entry, subQuestDtos))
 			.sorted(Comparator.comparing(QuestHistoryByDateDto::date).reversed())
 			.collect(Collectors.toList());
 	}
@@ -248,12 +272,13 @@ public class UsersSubQuestServiceImpl implements UsersSubQuestService {
 	/**
 	 * 날짜별 로그 그룹을 히스토리 DTO로 변환합니다.
 	 */
-	private QuestHistoryByDateDto convertToHistoryDto(Map.Entry<LocalDate, List<UsersSubQuestLog>> entry) {
+	private QuestHistoryByDateDto convertToHistoryDto(Map.Entry<LocalDate, List<UsersSubQuestLog>> entry,
+		Map<Long, SubQuestResponseDto.UsersSubQuestResponseDto> subQuestDtos) {
 		LocalDate date = entry.getKey();
 		List<UsersSubQuestLog> dailyLogs = entry.getValue();
 
 		List<QuestHistoryByDateDto.SubQuestLogsResponseDto> dailyHistoryLogs = dailyLogs.stream()
-			.map(this::convertToSubQuestLogResponseDto)
+			.map(log -> convertToSubQuestLogResponseDto(log, subQuestDtos))
 			.collect(Collectors.toList());
 
 		return new QuestHistoryByDateDto(date, dailyHistoryLogs);
@@ -262,9 +287,11 @@ public class UsersSubQuestServiceImpl implements UsersSubQuestService {
 	/**
 	 * 서브 퀘스트 로그를 응답 DTO로 변환합니다.
 	 */
-	private QuestHistoryByDateDto.SubQuestLogsResponseDto convertToSubQuestLogResponseDto(UsersSubQuestLog log) {
+	private QuestHistoryByDateDto.SubQuestLogsResponseDto convertToSubQuestLogResponseDto(UsersSubQuestLog log,
+		Map<Long, SubQuestResponseDto.UsersSubQuestResponseDto> subQuestDtos) {
 		UsersSubQuest subQuest = log.getUsersSubQuest();
-		SubQuestResponseDto.UsersSubQuestResponseDto subQuestDto = convertToUsersSubQuestResponseDto(subQuest);
+		SubQuestResponseDto.UsersSubQuestResponseDto subQuestDto = subQuestDtos.computeIfAbsent(subQuest.getId(),
+			id -> convertToUsersSubQuestResponseDto(subQuest));
 		SubQuestLogDto logDto = new SubQuestLogDto(log.getId(), log.getDifficulty(), log.getMemo());
 
 		return new QuestHistoryByDateDto.SubQuestLogsResponseDto(subQuestDto, logDto);
@@ -285,6 +312,24 @@ public class UsersSubQuestServiceImpl implements UsersSubQuestService {
 
 	}
 
+	/**
+	 * 서브 퀘스트의 누적/현재 주기 수행 횟수를 원자적으로 증가시킵니다.
+	 * 동시에 들어온 같은 날의 수행은 수행 비트맵 조건으로 한 번만 반영됩니다.
+	 */
+	private void incrementLogCounter(UsersSubQuest subQuest) {
+		LocalDate today = LocalDate.now(clock);
+		LocalDate periodStart = subQuest.currentPeriodStart(today);
+		SubQuestLogCounter counter = usersSubQuestRepository.incrementLogCount(
+			subQuest.getId(), periodStart, subQuest.dayOffset(today));
+		if (counter == null) {
+			throw new CustomException(ErrorType.COMPLETED_SUBQUEST);
+		}
+		subQuest.applyCounter(counter, periodStart);
+
+		log.debug("서브 퀘스트 수행 카운터 증가 - subQuestId: {}, 누적: {}, 현재 주기: {}",
+			subQuest.getId(), counter.getCompletedLogCount(), counter.getCurrentPeriodCount());
+	}
+
 	/**
 	 * 서브 퀘스트 보상을 지급합니다.
 	 */
@@ -312,19 +357,19 @@ public class UsersSubQuestServiceImpl implements UsersSubQuestService {
 	/**
 	 * 퀘스트 진행률 정보를 계산합니다.
 	 */
-	private QuestProgressInfo calculateQuestProgressInfo(UsersSubQuest subQuest) {
-		LocalDate today = LocalDate.now();
+	private QuestProgressInfo calculateQuestProgressInfo(UsersSubQuest subQuest, int periodLogCount) {
+		LocalDate today = LocalDate.now(clock);
 		FrequencyType frequencyType = subQuest.getFrequencyType();
 
 		log.debug("퀘스트 진행률 계산 시작 - subQuestId: {}, frequencyType: {}, today: {}",
 			subQuest.getId(), frequencyType, today);
 
 		return switch (frequencyType) {
-			case DAILY -> calculateDailyProgress(subQuest, today);
+			case DAILY -> calculateDailyProgress(periodLogCount);
 			case WEEKLY_1, WEEKLY_2, WEEKLY_3, WEEKLY_4, WEEKLY_5, WEEKLY_6 ->
-				calculateWeeklyProgress(subQuest, today);
+				calculateWeeklyProgress(subQuest, today, periodLogCount);
 			case MONTHLY_1, MONTHLY_2, MONTHLY_3, MONTHLY_4 ->
-				calculateMonthlyProgress(subQuest, today);
+				calculateMonthlyProgress(subQuest, today, periodLogCount);
 			default -> new QuestProgressInfo(0, false);
 		};
 	}
@@ -332,10 +377,7 @@ public class UsersSubQuestServiceImpl implements UsersSubQuestService {
 	/**
 	 * 일간 퀘스트 진행률을 계산합니다.
 	 */
-	private QuestProgressInfo calculateDailyProgress(UsersSubQuest subQuest, LocalDate today) {
-		int todayLogCount = usersSubQuestLogRepository.countByUsersSubQuestIdAndCreatedAtAfter(
-			subQuest.getId(), today.atStartOfDay());
-
+	private QuestProgressInfo calculateDailyProgress(int todayLogCount) {
 		int remainingCount = FrequencyType.DAILY.getPer() - todayLogCount;
 		boolean isEssential = todayLogCount == 0;
 
@@ -348,12 +390,9 @@ public class UsersSubQuestServiceImpl implements UsersSubQuestService {
 	/**
 	 * 주간 퀘스트 진행률을 계산합니다.
 	 */
-	private QuestProgressInfo calculateWeeklyProgress(UsersSubQuest subQuest, LocalDate today) {
+	private QuestProgressInfo calculateWeeklyProgress(UsersSubQuest subQuest, LocalDate today, int weeklyLogCount) {
 		WeekPeriodInfo weekInfo = calculateCurrentWeekPeriod(subQuest, today);
 
-		int weeklyLogCount = usersSubQuestLogRepository.countByUsersSubQuestIdAndCreatedAtAfter(
-			subQuest.getId(), weekInfo.startDate().atStartOfDay());
-
 		int requiredCount = subQuest.getFrequencyType().getCnt();
 		int remainingCount = requiredCount - weeklyLogCount;
 		long daysUntilWeekEnd = ChronoUnit.DAYS.between(today, weekInfo.endDate()) + 1;
@@ -369,13 +408,10 @@ public class UsersSubQuestServiceImpl implements UsersSubQuestService {
 	/**
 	 * 월간 퀘스트 진행률을 계산합니다.
 	 */
-	private QuestProgressInfo calculateMonthlyProgress(UsersSubQuest subQuest, LocalDate today) {
+	private QuestProgressInfo calculateMonthlyProgress(UsersSubQuest subQuest, LocalDate today, int totalLogCount) {
 		LocalDate startDate = subQuest.getMainQuest().getStartDate();
 		LocalDate endDate = subQuest.getMainQuest().getEndDate();
 
-		int totalLogCount = usersSubQuestLogRepository.countByUsersSubQuestIdAndCreatedAtAfter(
-			subQuest.getId(), startDate.atStartOfDay());
-
 		int requiredCount = subQuest.getFrequencyType().getCnt();
 		int remainingCount = requiredCount - totalLogCount;
 		long daysUntilEnd = ChronoUnit.DAYS.between(today, endDate) + 1;
@@ -401,168 +437,102 @@ public class UsersSubQuestServiceImpl implements UsersSubQuestService {
 		return new WeekPeriodInfo(weekStartDate, weekEndDate);
 	}
 
-	// ==================== Quest Status Management ====================
-
-	/**
-	 * 서브 퀘스트 완료 상태를 업데이트합니다.
-	 */
-	private void updateSubQuestStatus(UsersSubQuest subQuest) {
-		FrequencyType type = subQuest.getFrequencyType();
-
-		QuestStatus newStatus = switch (type) {
-			case WEEKLY_1, WEEKLY_2, WEEKLY_3, WEEKLY_4, WEEKLY_5, WEEKLY_6 ->
-				calculateWeeklyQuestStatus(subQuest, type);
-			default -> QuestStatus.ACCOMPLISHED;
-		};
-
-		subQuest.setStatus(newStatus);
-		log.debug("서브 퀘스트 상태 업데이트 - subQuestId: {}, newStatus: {}", subQuest.getId(), newStatus);
-	}
+	// ==================== Main Quest Completion ====================
 
 	/**
-	 * 주간 퀘스트의 완료 상태를 계산합니다.
+	 * 이번 수행으로 서브 퀘스트가 완료 조건을 충족했는지 확인하고,
+	 * 메인 퀘스트의 충족 서브 퀘스트 수가 전체 수에 도달하면 완료 처리 및 보상을 지급합니다.
+	 * 로그를 다시 읽지 않고 해당 서브 퀘스트의 카운터만 평가합니다.
 	 */
-	private QuestStatus calculateWeeklyQuestStatus(UsersSubQuest subQuest, FrequencyType type) {
-		WeekPeriodInfo weekInfo = calculateCurrentWeekPeriod(subQuest, LocalDate.now());
+	private MainQuestCompletionResult checkAndCompleteMainQuest(UsersSubQuest subQuest) {
+		UsersMainQuest mainQuest = subQuest.getMainQuest();
 
-		List<UsersSubQuestLog> logs = usersSubQuestLogRepository.findByUsersSubQuestId(subQuest.getId());
-		long weeklyLogCount = logs.stream()
-			.filter(log -> !log.getCreatedAt().isBefore(weekInfo.startDate().atStartOfDay()))
-			.count();
+		if (!updateSatisfaction(subQuest, mainQuest)) {
+			// 충족 수가 이미 전체 수에 도달해 있던 메인 퀘스트(V1_12 백필 등)는 이번 수행에서 완료 처리합니다.
+			if (mainQuest.getSatisfiedSubQuestCount() >= mainQuest.getSubQuestCount()
+				&& usersMainQuestRepository.completeIfAllSatisfied(mainQuest.getId(), LocalDateTime.now(clock)) == 1) {
+				log.info("모든 서브 퀘스트가 충족된 채 남아 있던 메인 퀘스트 완료 - mainQuestId: {}", mainQuest.getId());
+				return completeWithSubQuests(mainQuest);
+			}
+			log.debug("메인 퀘스트 미완료 - mainQuestId: {}, subQuestId: {}", mainQuest.getId(), subQuest.getId());
+			return new MainQuestCompletionResult(false, List.of());
+		}
 
-		boolean weeklyGoalAchieved = weeklyLogCount >= type.getCnt();
+		int satisfiedCount = usersMainQuestRepository.incrementSatisfiedSubQuestCount(mainQuest.getId());
+		log.info("서브 퀘스트 완료 조건 충족 - mainQuestId: {}, subQuestId: {}, 충족: {}/{}",
+			mainQuest.getId(), subQuest.getId(), satisfiedCount, mainQuest.getSubQuestCount());
 
-		log.debug("주간 퀘스트 상태 계산 - 목표: {}, 완료: {}, 달성 여부: {}",
-			type.getCnt(), weeklyLogCount, weeklyGoalAchieved);
+		if (satisfiedCount < mainQuest.getSubQuestCount()) {
+			return new MainQuestCompletionResult(false, List.of());
+		}
 
-		return weeklyGoalAchieved ? QuestStatus.WEEKLY_ACCOMPLISHED : QuestStatus.ACCOMPLISHED;
+		return completeWithSubQuests(mainQuest);
 	}
 
-	// ==================== Main Quest Completion ====================
-
 	/**
-	 * 메인 퀘스트 완료 여부를 확인하고 보상을 지급합니다.
+	 * 메인 퀘스트와 모든 서브 퀘스트를 완료 상태로 바꾸고 메인 퀘스트 보상을 지급합니다.
 	 */
-	private MainQuestCompletionResult checkAndCompleteMainQuest(UsersMainQuest mainQuest) {
-		log.info("메인 퀘스트 완료 검증 시작 - mainQuestId: {}, 제목: {}, 기간: {} ~ {}",
-			mainQuest.getId(), mainQuest.getTitle(), mainQuest.getStartDate(), mainQuest.getEndDate());
-
-		boolean allCompleted = validateAllSubQuestsCompleted(mainQuest);
-
-		if (allCompleted) {
-			return completeMainQuest(mainQuest);
-		} else {
-			log.info("❌ 메인 퀘스트 완료 실패 - mainQuestId: {}", mainQuest.getId());
-			return new MainQuestCompletionResult(false, List.of());
-		}
+	private MainQuestCompletionResult completeWithSubQuests(UsersMainQuest mainQuest) {
+		mainQuest.getUsersSubQuests().forEach(usersSubQuest -> usersSubQuest.setStatus(QuestStatus.COMPLETED));
+		return completeMainQuest(mainQuest);
 	}
 
 	/**
-	 * 모든 서브 퀘스트의 완료 여부를 검증합니다.
+	 * 서브 퀘스트의 충족 상태를 갱신합니다.
+	 *
+	 * @return 이번 수행으로 처음 충족되었으면 true
 	 */
-	private boolean validateAllSubQuestsCompleted(UsersMainQuest mainQuest) {
-		for (UsersSubQuest subQuest : mainQuest.getUsersSubQuests()) {
-			if (!isSubQuestCompleted(subQuest, mainQuest)) {
-				log.info("서브 퀘스트 미완료 - subQuestId: {}, 설명: {}",
-					subQuest.getId(), subQuest.getDescription());
-				return false;
-			}
-			subQuest.setStatus(QuestStatus.COMPLETED);
+	private boolean updateSatisfaction(UsersSubQuest subQuest, UsersMainQuest mainQuest) {
+		if (Boolean.TRUE.equals(subQuest.getSatisfied())) {
+			return false;
 		}
-		return true;
-	}
 
-	/**
-	 * 개별 서브 퀘스트의 완료 여부를 확인합니다.
-	 */
-	private boolean isSubQuestCompleted(UsersSubQuest subQuest, UsersMainQuest mainQuest) {
-		List<UsersSubQuestLog> logs = usersSubQuestLogRepository.findByUsersSubQuestId(subQuest.getId());
 		FrequencyType type = subQuest.getFrequencyType();
-
-		log.debug("서브 퀘스트 완료 검증 - subQuestId: {}, 타입: {}, 로그 수: {}",
-			subQuest.getId(), type, logs.size());
-
-		return switch (type) {
-			case DAILY -> validateDailyQuestCompletion(logs, mainQuest);
-			case WEEKLY_1, WEEKLY_2, WEEKLY_3, WEEKLY_4, WEEKLY_5, WEEKLY_6 ->
-				validateWeeklyQuestCompletion(subQuest, logs, mainQuest);
-			case MONTHLY_1, MONTHLY_2, MONTHLY_3, MONTHLY_4 ->
-				validateMonthlyQuestCompletion(logs, type);
-			default -> false;
+		boolean satisfied = switch (type) {
+			case DAILY -> isDailySatisfied(subQuest, mainQuest);
+			case WEEKLY_1, WEEKLY_2, WEEKLY_3, WEEKLY_4, WEEKLY_5, WEEKLY_6 -> isWeeklySatisfied(subQuest, mainQuest);
+			case MONTHLY_1, MONTHLY_2, MONTHLY_3, MONTHLY_4 -> isMonthlySatisfied(subQuest);
 		};
+
+		// 동시에 들어온 요청이 같은 서브 퀘스트를 두 번 세지 않도록 조건부 UPDATE로 확정합니다.
+		return satisfied && usersSubQuestRepository.markSatisfied(subQuest.getId()) == 1;
 	}
 
 	/**
-	 * 일간 퀘스트 완료 여부를 검증합니다.
+	 * 일간 퀘스트: 기간의 모든 날짜에 수행했는지 확인합니다.
 	 */
-	private boolean validateDailyQuestCompletion(List<UsersSubQuestLog> logs, UsersMainQuest mainQuest) {
+	private boolean isDailySatisfied(UsersSubQuest subQuest, UsersMainQuest mainQuest) {
 		long requiredDays = ChronoUnit.DAYS.between(mainQuest.getStartDate(), mainQuest.getEndDate()) + 1;
-		boolean completed = logs.size() >= requiredDays;
-
-		log.debug("[DAILY] 필수 일수: {}, 완료 일수: {}, 완료 여부: {}",
-			requiredDays, logs.size(), completed);
 
-		return completed;
+		log.debug("[DAILY] 필수 일수: {}, 완료 일수: {}", requiredDays, subQuest.getCompletedLogCount());
+		return subQuest.getCompletedLogCount() >= requiredDays;
 	}
 
 	/**
-	 * 주간 퀘스트 완료 여부를 검증합니다.
+	 * 주간 퀘스트: 이번 수행으로 현재 주차 목표를 채웠다면
+	 * 수행 비트맵으로 모든 주차가 목표를 채웠는지 확인합니다.
 	 */
-	private boolean validateWeeklyQuestCompletion(UsersSubQuest subQuest, List<UsersSubQuestLog> logs, UsersMainQuest mainQuest) {
-		if (subQuest.getStatus() != QuestStatus.WEEKLY_ACCOMPLISHED) {
-			return false;
-		}
-
+	private boolean isWeeklySatisfied(UsersSubQuest subQuest, UsersMainQuest mainQuest) {
 		int requiredPerWeek = subQuest.getFrequencyType().getCnt();
-		LocalDate currentDate = mainQuest.getStartDate();
-		LocalDate endDate = mainQuest.getEndDate();
-
-		while (!currentDate.isAfter(endDate)) {
-			LocalDate weekEnd = currentDate.plusDays(6);
-			if (weekEnd.isAfter(endDate)) {
-				weekEnd = endDate;
-			}
-
-			if (!validateWeekPeriod(logs, currentDate, weekEnd, requiredPerWeek)) {
-				return false;
-			}
-
-			currentDate = currentDate.plusWeeks(1);
+		if (subQuest.getCurrentPeriodCount() != requiredPerWeek) {
+			return false;
 		}
 
-		return true;
-	}
+		int totalDays = subQuest.dayOffset(mainQuest.getEndDate()) + 1;
+		boolean satisfied = subQuest.completionBitmap().everyWeekAtLeast(totalDays, requiredPerWeek);
 
-	/**
-	 * 특정 주차의 완료 조건을 검증합니다.
-	 */
-	private boolean validateWeekPeriod(List<UsersSubQuestLog> logs, LocalDate startDate, LocalDate endDate, int required) {
-		long logsInPeriod = logs.stream()
-			.filter(log -> {
-				LocalDate logDate = log.getCreatedAt().toLocalDate();
-				return !logDate.isBefore(startDate) && !logDate.isAfter(endDate);
-			})
-			.count();
-
-		boolean periodCompleted = logsInPeriod >= required;
-
-		log.debug("[WEEKLY] 기간: {} ~ {}, 필수: {}, 완료: {}, 결과: {}",
-			startDate, endDate, required, logsInPeriod, periodCompleted);
-
-		return periodCompleted;
+		log.debug("[WEEKLY] 주당 필수: {}, 전체 일수: {}, 충족 여부: {}", requiredPerWeek, totalDays, satisfied);
+		return satisfied;
 	}
 
 	/**
-	 * 월간 퀘스트 완료 여부를 검증합니다.
+	 * 월간 퀘스트: 기간 내 필요한 횟수를 채웠는지 확인합니다.
 	 */
-	private boolean validateMonthlyQuestCompletion(List<UsersSubQuestLog> logs, FrequencyType type) {
-		int required = type.getCnt();
-		boolean completed = logs.size() >= required;
-
-		log.debug("[MONTHLY] 필수 수행: {}, 완료 수행: {}, 완료 여부: {}",
-			required, logs.size(), completed);
+	private boolean isMonthlySatisfied(UsersSubQuest subQuest) {
+		int required = subQuest.getFrequencyType().getCnt();
 
-		return completed;
+		log.debug("[MONTHLY] 필수 수행: {}, 완료 수행: {}", required, subQuest.getCompletedLogCount());
+		return subQuest.getCompletedLogCount() >= required;
 	}
 
 	/**
@@ -573,6 +543,7 @@ public class UsersSubQuestServiceImpl implements UsersSubQuestService {
 
 		mainQuest.setStatus(QuestStatus.COMPLETED);
 		attributeService.addExp(mainQuest.getUsers(), mainQuestRewards, mainQuest);
+		usersQuestStatisticsService.recordFinished(List.of(mainQuest));
 
 		log.info("✔ 메인 퀘스트 완료 처리 완료 - mainQuestId: {}, 보상 수: {}",
 			mainQuest.getId(), mainQuestRewards.size());
@@ -6,9 +6,9 @@ import com.statoverflow.status.domain.quest.dto.response.ThemeResponseDto;
 
 public interface ThemeService {
 
-	List<ThemeResponseDto> getThemes();
+	List<ThemeResponseDto> getThemes(Long userId);
 
-	List<ThemeResponseDto> rerollThemes(List<Integer> themes);
+	List<ThemeResponseDto> rerollThemes(List<Integer> themes, Long userId);
 
 
 }
@@ -7,6 +7,7 @@ import org.springframework.data.domain.Sort;
 import com.statoverflow.status.domain.quest.dto.WithStatus;
 import com.statoverflow.status.domain.quest.dto.request.CreateQuestRequestDto;
 import com.statoverflow.status.domain.quest.dto.response.CreateQuestResponseDto;
+import com.statoverflow.status.domain.quest.dto.response.QuestHistoryPageDto;
 import com.statoverflow.status.domain.quest.dto.response.UserQuestStatisticsDto;
 import com.statoverflow.status.domain.quest.dto.response.UsersMainQuestResponseDto;
 import com.statoverflow.status.domain.quest.entity.UsersMainQuest;
@@ -22,4 +23,6 @@ public interface UsersMainQuestService {
 	UserQuestStatisticsDto getUserStatistics(Long userId);
 
 	List<WithStatus<UsersMainQuestResponseDto>> getUsersMainQuestHistory(Long userId);
+
+	QuestHistoryPageDto getUsersMainQuestHistory(Long userId, String cursor, int size);
 }
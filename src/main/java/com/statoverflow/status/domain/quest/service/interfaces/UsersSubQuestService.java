@@ -1,5 +1,6 @@
 package com.statoverflow.status.domain.quest.service.interfaces;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import com.statoverflow.status.domain.quest.dto.SubQuestLogDto;
@@ -11,7 +12,7 @@ public interface UsersSubQuestService {
 	List<SubQuestResponseDto.UsersSubQuestResponseDto> getTodaySubQuests(Long id);
 	List<SubQuestResponseDto.UsersSubQuestResponseDto> getTodaySubQuests(Long userId, Long mainQuestId);
 
-	List<QuestHistoryByDateDto> getSubQuestsLogs(Long userId, Long mainQuestId);
+	List<QuestHistoryByDateDto> getSubQuestsLogs(Long userId, Long mainQuestId, LocalDate before, int limit);
 
 	RewardResponseDto doSubQuest(Long userId, SubQuestLogDto dto);
 
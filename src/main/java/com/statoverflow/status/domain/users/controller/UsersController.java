@@ -88,7 +88,8 @@ public class UsersController {
 	@GetMapping("/me")
 	public ResponseEntity<ApiResponse<BasicUsersDto>> getUser(
 		@Parameter(hidden = true) @CurrentUser BasicUsersDto users) {
-		return ApiResponse.ok(users);
+		// 토큰의 티어 클레임은 발급 시점 스냅샷이므로 내 정보 조회 시에만 최신 티어를 계산합니다.
+		return ApiResponse.ok(users.withTier(usersService.getTier(users.id())));
 	}
 
 }
\ No newline at end of file
@@ -21,6 +21,10 @@ public record BasicUsersDto(Long id, String nickname, ProviderType.LoginType pro
 		return new BasicUsersDto(id, nickname, toLoginType(providerType), tier);
 	}
 
+	public BasicUsersDto withTier(TierDto tier) {
+		return new BasicUsersDto(id, nickname, providerType, tier);
+	}
+
 	private static ProviderType.LoginType toLoginType(String s) {
 		return ProviderType.LoginType.valueOf(s.toUpperCase());
 	}
@@ -1,7 +1,11 @@
 package com.statoverflow.status.domain.users.dto;
 
 import com.statoverflow.status.domain.master.enums.Tier;
+import com.statoverflow.status.domain.users.entity.Users;
 
 public record TierDto(Tier tier, int level) {
 
+	public static TierDto from(Users user) {
+		return new TierDto(user.getTier(), user.getTierLevel());
+	}
 }
@@ -6,6 +6,7 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import com.statoverflow.status.domain.master.enums.Tier;
 import com.statoverflow.status.domain.users.enums.AccountStatus;
 import com.statoverflow.status.domain.users.enums.ProviderType;
 
@@ -75,9 +76,28 @@ public class Users {
 	@Enumerated(EnumType.STRING)
 	private AccountStatus status;
 
+	// 각 속성의 (레벨 - 1) 합계. 경험치 획득으로 레벨 구간을 넘을 때만 갱신됩니다.
+	@Setter
+	@Column(nullable = false)
+	private Integer levelSum;
+
+	@Setter
+	@Column(nullable = false)
+	@Enumerated(EnumType.STRING)
+	private Tier tier;
+
+	@Setter
+	@Column(nullable = false)
+	private Integer tierLevel;
+
 	@PrePersist
 	protected void onCreate() {
 		this.status = AccountStatus.ACTIVE;
+		if (this.levelSum == null) {
+			this.levelSum = 0;
+			this.tier = Tier.BRONZE;
+			this.tierLevel = 1;
+		}
 	}
 
 }
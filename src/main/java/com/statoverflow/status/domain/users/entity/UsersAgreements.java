@@ -19,7 +19,8 @@ import com.statoverflow.status.domain.master.entity.TermsAndConditions;
 public class UsersAgreements {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_agreements_seq")
+	@SequenceGenerator(name = "users_agreements_seq", sequenceName = "users_agreements_id_seq", allocationSize = 50)
 	private Long id;
 
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -16,6 +16,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -33,7 +34,8 @@ import lombok.Setter;
 @EntityListeners(AuditingEntityListener.class)
 public class UsersAttributeProgress {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_attribute_progress_seq")
+	@SequenceGenerator(name = "users_attribute_progress_seq", sequenceName = "users_attribute_progress_id_seq", allocationSize = 50)
 	private Long id;
 
 	@ManyToOne
@@ -48,6 +50,11 @@ public class UsersAttributeProgress {
 	@Column(nullable = false)
 	private Long totalExp;
 
+	// total_exp 기준 현재 레벨 (레벨 구간을 넘을 때만 갱신)
+	@Setter
+	@Column(nullable = false)
+	private Integer level;
+
 	@LastModifiedDate
 	@Column(nullable = false)
 	private LocalDateTime updatedAt;
@@ -55,5 +62,6 @@ public class UsersAttributeProgress {
 	@PrePersist
 	protected void onCreate() {
 		this.totalExp = 5L;
+		this.level = 1;
 	}
 }
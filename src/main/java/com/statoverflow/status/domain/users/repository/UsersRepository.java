@@ -1,10 +1,15 @@
 package com.statoverflow.status.domain.users.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.statoverflow.status.domain.master.enums.Tier;
 import com.statoverflow.status.domain.users.entity.Users;
 import com.statoverflow.status.domain.users.enums.ProviderType;
 
@@ -15,4 +20,26 @@ public interface UsersRepository extends JpaRepository<Users, Long> {
 	boolean existsByNicknameAndTag(String nickname, String generatedTag);
 
 	Optional<Users> findByIdAndProviderType(Long id, ProviderType providerType);
+
+	// 레벨 합계를 원자적으로 증가시키고 갱신된 값을 반환
+	@Query(value = "UPDATE users SET level_sum = level_sum + :delta WHERE id = :id RETURNING level_sum", nativeQuery = true)
+	Integer addLevelSum(@Param("id") Long id, @Param("delta") int delta);
+
+	@Modifying
+	@Query("UPDATE Users u SET u.tier = :tier, u.tierLevel = :tierLevel WHERE u.id = :id")
+	int updateTier(@Param("id") Long id, @Param("tier") Tier tier, @Param("tierLevel") Integer tierLevel);
+
+	// 정합성 보정: 읽은 뒤 레벨 합계가 바뀌지 않은 경우에만 레벨 합계와 티어를 고칩니다.
+	@Modifying
+	@Query("UPDATE Users u SET u.levelSum = :levelSum, u.tier = :tier, u.tierLevel = :tierLevel " +
+		"WHERE u.id = :id AND u.levelSum = :oldLevelSum")
+	int correctLevelSum(@Param("id") Long id, @Param("oldLevelSum") Integer oldLevelSum,
+		@Param("levelSum") Integer levelSum, @Param("tier") Tier tier, @Param("tierLevel") Integer tierLevel);
+
+	@Query(value = "SELECT id FROM users WHERE id > :afterId AND id <= :toId ORDER BY id LIMIT :limit",
+		nativeQuery = true)
+	List<Long> findIdsAfter(@Param("afterId") Long afterId, @Param("toId") Long toId, @Param("limit") int limit);
+
+	@Query("SELECT COALESCE(MAX(u.id), 0) FROM Users u")
+	long findMaxId();
 }
@@ -11,21 +11,16 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.statoverflow.status.domain.attribute.dto.AttributesReturnDto;
 import com.statoverflow.status.domain.attribute.repository.AttributeRepository;
 import com.statoverflow.status.domain.attribute.repository.UsersAttributeProgressRepository;
-import com.statoverflow.status.domain.attribute.service.AttributeService;
 import com.statoverflow.status.domain.auth.dto.OAuthLoginRequestDto;
 import com.statoverflow.status.domain.auth.dto.OAuthProviderDto;
 import com.statoverflow.status.domain.auth.dto.SignUpRequestDto;
 import com.statoverflow.status.domain.auth.dto.SocialLoginReturnDto;
+import com.statoverflow.status.domain.master.catalog.MasterCatalog;
 import com.statoverflow.status.domain.master.entity.Attribute;
-import com.statoverflow.status.domain.master.entity.NicknameGenerator;
 import com.statoverflow.status.domain.master.entity.TermsAndConditions;
-import com.statoverflow.status.domain.master.entity.TierLevel;
-import com.statoverflow.status.domain.master.enums.DefaultNicknameType;
 import com.statoverflow.status.domain.master.enums.TermsType;
-import com.statoverflow.status.domain.master.repository.NicknameGeneratorRepository;
 import com.statoverflow.status.domain.users.dto.BasicUsersDto;
 import com.statoverflow.status.domain.users.dto.TierDto;
 import com.statoverflow.status.domain.users.dto.WithTier;
@@ -35,7 +30,6 @@ import com.statoverflow.status.domain.users.repository.TermsAndConditionsReposit
 import com.statoverflow.status.domain.users.entity.Users;
 import com.statoverflow.status.domain.users.entity.UsersAttributeProgress;
 import com.statoverflow.status.domain.users.enums.AccountStatus;
-import com.statoverflow.status.domain.users.repository.TierLevelRepository;
 import com.statoverflow.status.domain.users.repository.UsersAgreementsRepository;
 import com.statoverflow.status.domain.users.repository.UsersRepository;
 import com.statoverflow.status.global.error.ErrorType;
@@ -54,12 +48,9 @@ public class UsersServiceImpl implements UsersService{
 	private final UsersRepository usersRepository;
 	private final UsersAttributeProgressRepository	usersAttributeProgressRepository;
 	private final AttributeRepository attributeRepository;
-	private final NicknameGeneratorRepository nicknameGeneratorRepository;
+	private final MasterCatalog masterCatalog;
 	private final Random random;
 
-	private final AttributeService attributeService;
-	private final TierLevelRepository tierLevelRepository;
-
 	@Value("${status.users.users-service.characters}")
 	private String VALID_CHARACTERS;
 
@@ -74,10 +65,7 @@ public class UsersServiceImpl implements UsersService{
 		return usersRepository.findByProviderTypeAndProviderId(
 				provider.providerType(), provider.providerId()
 			)
-			.map(user -> {
-				TierDto tier = getTier(user.getId());
-				return (SocialLoginReturnDto) BasicUsersDto.from(user, tier);
-			})
+			.map(user -> (SocialLoginReturnDto) BasicUsersDto.from(user, TierDto.from(user)))
 			.orElse(provider);
 	}
 
@@ -99,16 +87,17 @@ public class UsersServiceImpl implements UsersService{
 		agreeToLatestRequiredTerms(user);
 
 		log.debug("회원가입 완료: {}", user.getId());
-		return BasicUsersDto.from(user, getTier(user.getId()));
+		return BasicUsersDto.from(user, TierDto.from(user));
 	}
 
 	private String generateRandomNickname() {
-		List<NicknameGenerator> adjectives = nicknameGeneratorRepository.findAllByType(DefaultNicknameType.ADJECTIVE);
-		List<NicknameGenerator> nouns = nicknameGeneratorRepository.findAllByType(DefaultNicknameType.NOUN);
+		MasterCatalog.Snapshot catalog = masterCatalog.current();
+		List<String> adjectives = catalog.nicknameAdjectives();
+		List<String> nouns = catalog.nicknameNouns();
 
 		// 랜덤 인덱스를 생성하여 하나씩 선택
-		String randomAdjective = adjectives.get(random.nextInt(adjectives.size())).getName();
-		String randomNoun = nouns.get(random.nextInt(nouns.size())).getName();
+		String randomAdjective = adjectives.get(random.nextInt(adjectives.size()));
+		String randomNoun = nouns.get(random.nextInt(nouns.size()));
 
 		log.debug("랜덤 닉네임 생성 완료, 닉네임 : {}", randomAdjective + randomNoun);
 
@@ -145,7 +134,7 @@ public class UsersServiceImpl implements UsersService{
 		agreeToLatestRequiredTerms(user);
 
 		log.debug("회원가입 완료: {}", user.getId());
-		return BasicUsersDto.from(user, getTier(user.getId()));
+		return BasicUsersDto.from(user, TierDto.from(user));
 	}
 
 	private void agreeToLatestRequiredTerms(Users user) {
@@ -186,7 +175,7 @@ public class UsersServiceImpl implements UsersService{
 		user.setTag(generateTagForNickname(nickname));
 		user.setNickname(nickname);
 
-		return BasicUsersDto.from(user, getTier(user.getId()));
+		return BasicUsersDto.from(user, TierDto.from(user));
 	}
 
 	@Override
@@ -214,7 +203,7 @@ public class UsersServiceImpl implements UsersService{
 
 		agreeToLatestRequiredTerms(user);
 
-		return BasicUsersDto.from(user, getTier(user.getId()));
+		return BasicUsersDto.from(user, TierDto.from(user));
 	}
 
 	private void initializeUserAttributes(Users user) {
@@ -252,15 +241,11 @@ public class UsersServiceImpl implements UsersService{
 		return generatedTag;
 	}
 
+	// 티어는 경험치 획득 시 users 테이블에 반영되므로 단일 행 조회로 충분합니다.
 	@Override
 	public TierDto getTier(Long userId) {
-		int levelSum = attributeService.getAttributes(userId)
-			.stream()
-			.mapToInt(AttributesReturnDto::level)
-			.sum();
-		levelSum -= 12;
-		TierLevel tierLevel = tierLevelRepository.findTopByXpRequiredGreaterThanOrderByXpRequiredAsc((long)levelSum);
-
-		return new TierDto(tierLevel.getGrade(), tierLevel.getLevelOutput());
+		return usersRepository.findById(userId)
+			.map(TierDto::from)
+			.orElseThrow(() -> new CustomException(ErrorType.RESOURCE_NOT_FOUND));
 	}
 }
@@ -0,0 +1,20 @@
+package com.statoverflow.status.global.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+	// 시퀀스 기반 ID와 함께 INSERT/UPDATE를 JDBC 배치로 묶어 전송
+	@Bean
+	public HibernatePropertiesCustomizer jdbcBatchingCustomizer() {
+		return properties -> {
+			properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, 50);
+			properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+			properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+		};
+	}
+}
@@ -38,6 +38,8 @@ public class SecurityConfig {
 			.authorizeHttpRequests(authorize ->
 				authorize
 					.requestMatchers("/api/v1/auth/logout").authenticated()
+					// 운영용 관리자 API는 status.admin.user-ids에 등록된 사용자만 호출할 수 있습니다.
+					.requestMatchers("/admin/token-blacklist/**", "/admin/master-catalog/**").hasRole("ADMIN")
 					.requestMatchers(
 						"/api/v1/auth/**",
 						"/api/v1/users/sign-up",
@@ -0,0 +1,32 @@
+package com.statoverflow.status.global.config;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.auditing.DateTimeProvider;
+
+/**
+ * 퀘스트 날짜 계산(오늘, 주기 시작일, 수행 비트맵 일자)과 감사 시각의 기준 시계입니다.
+ * 사용자별 시간대 정보가 없으므로 서비스 시간대(status.time-zone, 기본 Asia/Seoul)를 사용합니다.
+ * 스케줄러 cron도 같은 설정을 zone으로 사용하므로, JVM 기본 시간대와 무관하게 모든 노드와 스케줄러가
+ * 같은 날짜 경계를 갖습니다.
+ */
+@Configuration
+public class TimeConfig {
+
+	@Bean
+	public Clock clock(@Value("${status.time-zone:Asia/Seoul}") String timeZone) {
+		return Clock.system(ZoneId.of(timeZone));
+	}
+
+	// @CreatedDate/@LastModifiedDate도 같은 시계를 사용해 로그 일자와 수행 일자가 어긋나지 않게 합니다.
+	@Bean
+	public DateTimeProvider auditingDateTimeProvider(Clock clock) {
+		return () -> Optional.of(LocalDateTime.now(clock));
+	}
+}
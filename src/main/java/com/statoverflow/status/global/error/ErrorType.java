@@ -14,6 +14,7 @@ public enum ErrorType {
     DEFAULT_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "00-001", "현재 앱에 문제가 발생했으니 관리자에게 문의해주세요."),
     RESOURCE_NOT_FOUND(HttpStatus.NOT_FOUND, "00-002", "요청한 리소스를 찾을 수 없습니다."),
     INVALID_FIELD(HttpStatus.BAD_REQUEST, "00-003", "유효성 검사 실패. 상세: "),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "00-004", "잘못된 페이지 커서입니다."),
 
     // 소셜 로그인 에러 (01)
     UNSUPPORTED_OAUTH_PROVIDER(HttpStatus.BAD_REQUEST, "01-001", "잘못된 소셜 식별자입니다."),
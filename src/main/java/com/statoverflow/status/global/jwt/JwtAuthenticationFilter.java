@@ -2,6 +2,7 @@ package com.statoverflow.status.global.jwt;
 
 import com.statoverflow.status.domain.auth.service.TokenBlacklistService;
 import com.statoverflow.status.domain.users.dto.BasicUsersDto;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -10,6 +11,8 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.web.authentication.preauth.PreAuthenticatedAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -19,35 +22,49 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+	static final String ADMIN_ROLE = "ROLE_ADMIN";
+
 	private final JwtService jwtService;
 	private final TokenBlacklistService tokenBlacklistService;
 
+	// 관리자 API(/admin/**의 운영 엔드포인트)를 호출할 수 있는 사용자 ID 목록
+	@Value("${status.admin.user-ids:}")
+	private Set<Long> adminUserIds;
+
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
 		throws ServletException, IOException {
 
 		String accessToken = jwtService.resolveTokenFromCookie(request, "access_token");
+		// 서명 검증은 한 번만 수행하고, 검증된 Claims를 그대로 사용자 정보 구성에 사용합니다.
+		// 토큰 다이제스트도 한 번만 계산해 검증 캐시와 블랙리스트 조회에 함께 사용합니다.
+		String digest = StringUtils.hasText(accessToken) ? TokenDigest.sha256Hex(accessToken) : null;
+		Claims claims = digest != null ? jwtService.verifyToken(accessToken, digest) : null;
 
-		if (StringUtils.hasText(accessToken) && jwtService.validateToken(accessToken)) {
-			if (tokenBlacklistService.isBlacklisted(accessToken)) {
+		if (claims != null) {
+			if (tokenBlacklistService.isBlacklistedDigest(digest)) {
 				SecurityContextHolder.clearContext();
 				response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "토큰이 블랙리스트에 있습니다.");
 				return;
 			}
 			try {
-				BasicUsersDto userDto = jwtService.parseUsersFromToken(accessToken);
+				BasicUsersDto userDto = jwtService.parseUsersFromClaims(claims);
 
 				PreAuthenticatedAuthenticationToken authentication =
 					new PreAuthenticatedAuthenticationToken(
 						userDto,
 						null,
-						Collections.emptyList() // 권한이 없다면 빈 리스트
+						adminUserIds.contains(userDto.id())
+							? List.of(new SimpleGrantedAuthority(ADMIN_ROLE))
+							: Collections.emptyList() // 권한이 없다면 빈 리스트
 					);
 
 				SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -13,11 +13,13 @@ import org.springframework.http.ResponseCookie;
 import org.springframework.stereotype.Component;
 
 import com.statoverflow.status.domain.users.dto.BasicUsersDto;
+import com.statoverflow.status.domain.master.enums.Tier;
 import com.statoverflow.status.domain.users.dto.TierDto;
-import com.statoverflow.status.domain.users.service.UsersService;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -26,15 +28,14 @@ import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
-@RequiredArgsConstructor
 @Component
 public class JwtService {
 
-    private final UsersService usersService;
+    private static final String CLAIM_TIER = "tier";
+    private static final String CLAIM_TIER_LEVEL = "tierLevel";
 
     @Value("${jwt.secret}")
     private String secret; // application.yml의 secret 값 주입
@@ -46,11 +47,25 @@ public class JwtService {
     @Value("${jwt.refresh-token-expiration-ms}")
     private long refreshTokenExpirationMs;
 
+    // 검증 결과 캐시 크기와 보관 시간 (토큰 만료 시각을 넘겨 보관하지는 않습니다)
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private int verifiedCacheMaxSize = 10_000;
+
+    @Value("${jwt.verified-cache.ttl-ms:30000}")
+    private long verifiedCacheTtlMs = 30_000L;
+
     private SecretKey secretKey;
 
+    // JwtParser는 불변이며 스레드 안전하므로 한 번만 생성해 재사용합니다.
+    private JwtParser jwtParser;
+
+    private VerifiedClaimsCache verifiedClaimsCache;
+
     @PostConstruct
     public void init() {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser().verifyWith(secretKey).build();
+        this.verifiedClaimsCache = new VerifiedClaimsCache(verifiedCacheMaxSize, verifiedCacheTtlMs);
     }
 
     // Access Token 생성
@@ -63,6 +78,8 @@ public class JwtService {
             .claim("id", user.id())
             .claim("nickname", user.nickname())
             .claim("providerType", user.providerType().name())
+            .claim(CLAIM_TIER, user.tier() == null ? null : user.tier().tier().name())
+            .claim(CLAIM_TIER_LEVEL, user.tier() == null ? null : user.tier().level())
             .issuedAt(now)
             .expiration(validity)
             .signWith(secretKey)
@@ -99,34 +116,75 @@ public class JwtService {
 
     // 토큰 유효성 검증 (더 상세한 예외 처리)
     public boolean validateToken(String token) {
+        return verifyToken(token) != null;
+    }
+
+    // 서명과 만료를 한 번만 검증하고 Claims를 반환합니다. 검증에 실패하면 null을 반환합니다.
+    // 최근 검증에 성공한 토큰은 다이제스트 기준으로 캐시되어 HMAC 검증과 파싱을 생략합니다.
+    public Claims verifyToken(String token) {
+        if (token == null || token.isBlank()) {
+            log.info("JWT 토큰이 잘못되었습니다.");
+            return null;
+        }
+        return verifyToken(token, TokenDigest.sha256Hex(token));
+    }
+
+    // 호출자가 이미 계산한 다이제스트(TokenDigest.sha256Hex)로 검증합니다. (필터에서 블랙리스트 조회와 공유)
+    public Claims verifyToken(String token, String digest) {
+        if (token == null || token.isBlank()) {
+            log.info("JWT 토큰이 잘못되었습니다.");
+            return null;
+        }
+
+        long now = System.currentTimeMillis();
+        Claims cached = verifiedClaimsCache.get(digest, now);
+        if (cached != null) {
+            return cached;
+        }
+
         try {
-            log.info("Validating token {}", token);
-            Jwts.parser().verifyWith(secretKey).build().parseClaimsJws(token);
-            log.info("Token validated");
-            return true;
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            verifiedClaimsCache.put(digest, claims, now);
+            log.debug("Token validated");
+            return claims;
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
             log.info("만료된 JWT 토큰입니다.");
         } catch (UnsupportedJwtException e) {
             log.info("지원되지 않는 JWT 토큰입니다.");
-        } catch (IllegalArgumentException e) {
+        } catch (IllegalArgumentException | JwtException e) {
             log.info("JWT 토큰이 잘못되었습니다.");
         }
-        return false;
+        return null;
     }
 
+    // 요청마다 DB 조회가 일어나지 않도록 티어는 토큰 발급 시점의 스냅샷 클레임을 그대로 사용합니다.
+    // 최신 티어가 필요한 엔드포인트(/users/me, 토큰 재발급)는 UsersService.getTier로 직접 조회합니다.
     public BasicUsersDto parseUsersFromToken(String token) {
+        return parseUsersFromClaims(parseToken(token));
+    }
 
-        Claims claims = parseToken(token);
+    // 이미 검증된 Claims로 사용자 정보를 구성합니다. (필터에서 재검증 없이 사용)
+    public BasicUsersDto parseUsersFromClaims(Claims claims) {
 
         int id = claims.get("id", Integer.class);
         String nickname = claims.get("nickname", String.class);
         String providerType = claims.get("providerType", String.class);
 
+        return BasicUsersDto.of((long) id, nickname, providerType, parseTierFromClaims(claims));
+
+    }
 
-        return BasicUsersDto.of((long) id, nickname, providerType, usersService.getTier((long) id));
+    // 티어 클레임이 없는 이전 버전 토큰은 null을 반환합니다.
+    private TierDto parseTierFromClaims(Claims claims) {
+        String tier = claims.get(CLAIM_TIER, String.class);
+        Integer tierLevel = claims.get(CLAIM_TIER_LEVEL, Integer.class);
 
+        if (tier == null || tierLevel == null) {
+            return null;
+        }
+        return new TierDto(Tier.valueOf(tier), tierLevel);
     }
 
     public Long getRemainingTime(String token) {
@@ -149,11 +207,11 @@ public class JwtService {
 
     public Claims parseToken(String token) {
 
-        return Jwts.parser()
-            .verifyWith(secretKey) // 또는 setSigningKey()
-            .build()
-            .parseSignedClaims(token)
-            .getPayload();
+        Claims cached = verifiedClaimsCache.get(TokenDigest.sha256Hex(token), System.currentTimeMillis());
+        if (cached != null) {
+            return cached;
+        }
+        return jwtParser.parseSignedClaims(token).getPayload();
 
     }
 
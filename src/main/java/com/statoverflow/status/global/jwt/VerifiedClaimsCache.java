@@ -0,0 +1,65 @@
+package com.statoverflow.status.global.jwt;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * 서명 검증을 통과한 토큰의 Claims를 짧은 시간 동안 보관하는 크기 제한 캐시입니다.
+ * 키는 토큰 원문이 아닌 SHA-256 다이제스트이며, 항목은 TTL과 토큰 만료 시각 중 이른 시점에 무효화됩니다.
+ * 가득 차면 임의의 항목 하나를 내보내고 새 항목을 저장하므로, 저장 비용은 캐시 크기와 무관하게 O(1)입니다.
+ */
+class VerifiedClaimsCache {
+
+    private record Entry(Claims claims, long validUntilMillis) {
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final long ttlMillis;
+
+    VerifiedClaimsCache(int maxSize, long ttlMillis) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+    }
+
+    Claims get(String digest, long nowMillis) {
+        Entry entry = entries.get(digest);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.validUntilMillis() <= nowMillis) {
+            entries.remove(digest, entry);
+            return null;
+        }
+        return entry.claims();
+    }
+
+    void put(String digest, Claims claims, long nowMillis) {
+        long validUntil = nowMillis + ttlMillis;
+        if (claims.getExpiration() != null) {
+            validUntil = Math.min(validUntil, claims.getExpiration().getTime());
+        }
+        if (validUntil <= nowMillis) {
+            return;
+        }
+        if (entries.size() >= maxSize && !entries.containsKey(digest)) {
+            evictOne();
+        }
+        entries.put(digest, new Entry(claims, validUntil));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    // 순회 순서상 첫 항목 하나를 내보냅니다. 만료 항목은 get에서 만날 때 제거됩니다.
+    private void evictOne() {
+        Iterator<String> keys = entries.keySet().iterator();
+        if (keys.hasNext()) {
+            entries.remove(keys.next());
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.statoverflow.status.global.lock;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.statoverflow.status.domain.users.repository.UsersRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 노드가 같은 배치 작업을 사용자 ID 구간(파티션)으로 나누어 처리하도록 조정합니다.
+ *
+ * - 실행 계획(최대 사용자 ID)은 먼저 시작한 노드가 Redis에 기록하고, 모든 노드가 같은 파티션 경계를 사용합니다.
+ * - 각 파티션은 RedisLeaseLock으로 한 노드만 처리하며, 사용자 청크마다 체크포인트를 남기고 임대를 연장합니다.
+ * - 파티션을 한 번씩만 훑고 반환하며, 다른 노드가 처리 중인 파티션은 기다리지 않습니다.
+ * - 완료되지 않은 실행은 노드마다 기억해 두고 catch-up-ms 간격으로 같은 runKey로 다시 실행합니다.
+ *   처리 중 노드가 죽으면 임대가 만료된 뒤 다른 노드의 재실행이 체크포인트부터 이어서 처리합니다.
+ *
+ * 작업은 같은 구간을 다시 처리해도 결과가 같도록(멱등) 작성해야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PartitionedJobRunner {
+
+	static final String KEY_PREFIX = "scheduler:";
+
+	// 실행 계획, 완료 표시, 체크포인트 키의 보관 기간
+	private static final Duration STATE_TTL = Duration.ofDays(2);
+
+	private final RedisLeaseLock redisLeaseLock;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final UsersRepository usersRepository;
+
+	@Value("${status.scheduler.partition-size:10000}")
+	private long partitionSize;
+
+	@Value("${status.scheduler.chunk-users:500}")
+	private long chunkUsers;
+
+	@Value("${status.scheduler.lease-ms:60000}")
+	private long leaseMs;
+
+	// 완료되지 않은 실행을 다시 시도하는 기간
+	@Value("${status.scheduler.catch-up-window-ms:21600000}")
+	private long catchUpWindowMs;
+
+	// 완료되지 않은 실행 (runPrefix -> 재실행 정보)
+	private final Map<String, UnfinishedRun> unfinishedRuns = new ConcurrentHashMap<>();
+
+	/**
+	 * 작업을 실행합니다. 같은 jobName/runKey로 호출한 모든 노드가 파티션을 나누어 처리합니다.
+	 *
+	 * @param jobName 작업 이름
+	 * @param runKey 실행 회차 (예: 실행 날짜)
+	 * @param task (fromUserId, toUserId] 구간을 처리하고 처리한 행 수를 반환하는 작업
+	 * @return 이 노드가 처리한 결과
+	 */
+	public Result run(String jobName, String runKey, UserRangeTask task) {
+		long startedAt = System.currentTimeMillis();
+		String runPrefix = KEY_PREFIX + jobName + ":" + runKey;
+		int partitionCount = (int)(plannedMaxUserId(runPrefix) / partitionSize) + 1;
+
+		int rows = 0;
+		int processed = 0;
+		// 노드마다 다른 파티션부터 시작해 경합을 줄입니다.
+		int offset = ThreadLocalRandom.current().nextInt(partitionCount);
+
+		int pending = 0;
+		for (int n = 0; n < partitionCount; n++) {
+			int partition = (offset + n) % partitionCount;
+			if (isDone(runPrefix, partition)) {
+				continue;
+			}
+			Optional<RedisLeaseLock.Lease> lease = redisLeaseLock.tryAcquire(
+				runPrefix + ":lock:" + partition, Duration.ofMillis(leaseMs));
+			if (lease.isEmpty()) {
+				pending++;
+				continue;
+			}
+			try {
+				// 임대를 얻는 사이 다른 노드가 완료했을 수 있습니다.
+				if (isDone(runPrefix, partition)) {
+					continue;
+				}
+				PartitionResult result = processPartition(runPrefix, partition, lease.get(), task);
+				rows += result.rows();
+				if (result.completed()) {
+					processed++;
+				} else {
+					pending++;
+				}
+			} finally {
+				redisLeaseLock.release(lease.get());
+			}
+		}
+
+		if (pending > 0) {
+			log.info("[{}] 다른 노드가 처리 중이거나 임대를 잃은 파티션 {}개는 재실행에서 이어서 처리합니다.", jobName, pending);
+			unfinishedRuns.putIfAbsent(runPrefix, new UnfinishedRun(jobName, runKey, task, startedAt + catchUpWindowMs));
+		} else {
+			unfinishedRuns.remove(runPrefix);
+		}
+		return new Result(rows, processed, partitionCount, System.currentTimeMillis() - startedAt);
+	}
+
+	/**
+	 * 완료되지 않은 실행을 같은 runKey로 다시 실행합니다.
+	 * 모든 파티션이 완료되면(다른 노드가 완료한 경우 포함) 목록에서 제거하고, 재시도 기간이 지나면 포기합니다.
+	 */
+	@Scheduled(fixedDelayString = "${status.scheduler.catch-up-ms:60000}",
+		initialDelayString = "${status.scheduler.catch-up-ms:60000}")
+	public void resumeUnfinished() {
+		for (Map.Entry<String, UnfinishedRun> entry : unfinishedRuns.entrySet()) {
+			UnfinishedRun unfinished = entry.getValue();
+			if (System.currentTimeMillis() > unfinished.giveUpAt()) {
+				log.warn("[{}] 실행 {}의 미완료 파티션을 재시도 기간 안에 처리하지 못했습니다.",
+					unfinished.jobName(), unfinished.runKey());
+				unfinishedRuns.remove(entry.getKey());
+				continue;
+			}
+			try {
+				Result result = run(unfinished.jobName(), unfinished.runKey(), unfinished.task());
+				if (result.rows() > 0 || result.partitions() > 0) {
+					log.info("[{}] 실행 {} 재시도: 파티션 {}개, {}건 처리", unfinished.jobName(), unfinished.runKey(),
+						result.partitions(), result.rows());
+				}
+			} catch (RuntimeException e) {
+				log.warn("[{}] 실행 {} 재시도 실패: {}", unfinished.jobName(), unfinished.runKey(), e.getMessage());
+			}
+		}
+	}
+
+	// 먼저 시작한 노드가 기록한 최대 사용자 ID를 모든 노드가 공유합니다.
+	private long plannedMaxUserId(String runPrefix) {
+		String key = runPrefix + ":plan";
+		redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(usersRepository.findMaxId()), STATE_TTL);
+		return Long.parseLong(redisTemplate.opsForValue().get(key));
+	}
+
+	private boolean isDone(String runPrefix, int partition) {
+		return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(runPrefix + ":done", String.valueOf(partition)));
+	}
+
+	private PartitionResult processPartition(String runPrefix, int partition, RedisLeaseLock.Lease lease,
+		UserRangeTask task) {
+		String checkpointKey = runPrefix + ":checkpoint:" + partition;
+		long upper = (partition + 1L) * partitionSize;
+		String checkpoint = redisTemplate.opsForValue().get(checkpointKey);
+		long cursor = checkpoint != null ? Long.parseLong(checkpoint) : partition * partitionSize;
+		if (checkpoint != null) {
+			log.info("파티션 {}을 체크포인트(사용자 ID {})부터 이어서 처리합니다.", partition, cursor);
+		}
+
+		int rows = 0;
+		while (cursor < upper) {
+			long next = Math.min(cursor + chunkUsers, upper);
+			rows += task.process(cursor, next);
+			cursor = next;
+
+			redisTemplate.opsForValue().set(checkpointKey, String.valueOf(cursor), STATE_TTL);
+			if (!redisLeaseLock.renew(lease)) {
+				log.warn("파티션 {}의 임대를 잃어 처리를 중단합니다. (사용자 ID {})", partition, cursor);
+				return new PartitionResult(rows, false);
+			}
+		}
+
+		redisTemplate.opsForSet().add(runPrefix + ":done", String.valueOf(partition));
+		redisTemplate.expire(runPrefix + ":done", STATE_TTL);
+		return new PartitionResult(rows, true);
+	}
+
+	/**
+	 * 사용자 ID 구간 작업
+	 */
+	@FunctionalInterface
+	public interface UserRangeTask {
+
+		// (fromUserId, toUserId] 구간을 처리하고 처리한 행 수를 반환합니다.
+		int process(long fromUserId, long toUserId);
+	}
+
+	private record UnfinishedRun(String jobName, String runKey, UserRangeTask task, long giveUpAt) {
+	}
+
+	private record PartitionResult(int rows, boolean completed) {
+	}
+
+	/**
+	 * 이 노드의 처리 결과
+	 *
+	 * @param rows 처리한 행 수
+	 * @param partitions 완료한 파티션 수
+	 * @param totalPartitions 전체 파티션 수
+	 * @param elapsedMillis 소요 시간(ms)
+	 */
+	public record Result(int rows, int partitions, int totalPartitions, long elapsedMillis) {
+	}
+}
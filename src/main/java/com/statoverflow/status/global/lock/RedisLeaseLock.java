@@ -0,0 +1,53 @@
+package com.statoverflow.status.global.lock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis 기반 임대(lease) 락입니다.
+ * SET NX PX로 획득하고, 보유자 토큰이 일치할 때만 연장/해제합니다.
+ * 보유 노드가 연장하지 못하고 죽으면 TTL이 지난 뒤 다른 노드가 획득할 수 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisLeaseLock {
+
+	private static final RedisScript<Long> RENEW = new DefaultRedisScript<>(
+		"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+		Long.class);
+
+	private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+		"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+		Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	public Optional<Lease> tryAcquire(String key, Duration ttl) {
+		String token = UUID.randomUUID().toString();
+		Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+		return Boolean.TRUE.equals(acquired) ? Optional.of(new Lease(key, token, ttl)) : Optional.empty();
+	}
+
+	// 아직 보유 중이면 TTL을 다시 채우고 true, 이미 만료되어 다른 노드가 가져갔으면 false
+	public boolean renew(Lease lease) {
+		Long renewed = redisTemplate.execute(RENEW, List.of(lease.key()),
+			lease.token(), String.valueOf(lease.ttl().toMillis()));
+		return renewed != null && renewed == 1L;
+	}
+
+	public void release(Lease lease) {
+		redisTemplate.execute(RELEASE, List.of(lease.key()), lease.token());
+	}
+
+	public record Lease(String key, String token, Duration ttl) {
+	}
+}
@@ -0,0 +1,4 @@
+-- 완료/실패한 메인 퀘스트 히스토리의 키셋 페이지네이션 (updated_at DESC, id DESC)
+CREATE INDEX IF NOT EXISTS idx_users_main_quest_history
+    ON public.users_main_quest (users_id, updated_at DESC, id DESC)
+    WHERE status IN ('COMPLETED', 'FAILED');
@@ -0,0 +1,37 @@
+--
+-- Per-user quest statistics maintained when a main quest becomes COMPLETED or FAILED
+--
+
+CREATE TABLE IF NOT EXISTS public.users_quest_statistics (
+    users_id                      bigint                      NOT NULL,
+    total_main_quests             integer                     NOT NULL DEFAULT 0,
+    total_sub_quest_verifications integer                     NOT NULL DEFAULT 0,
+    completion_rate_sum           bigint                      NOT NULL DEFAULT 0,
+    duration_days_sum             bigint                      NOT NULL DEFAULT 0,
+    updated_at                    timestamp(6) without time zone NOT NULL,
+    CONSTRAINT users_quest_statistics_pkey PRIMARY KEY (users_id),
+    CONSTRAINT fk_users_quest_statistics_users FOREIGN KEY (users_id) REFERENCES public.users (id)
+);
+
+-- Backfill from finished main quests: completion rate = logs * 100 / required_log per quest,
+-- duration = start_date ~ completion day (COMPLETED) or end_date (FAILED)
+INSERT INTO public.users_quest_statistics (users_id, total_main_quests, total_sub_quest_verifications,
+                                           completion_rate_sum, duration_days_sum, updated_at)
+SELECT q.users_id,
+       COUNT(*),
+       SUM(q.done),
+       SUM(CASE WHEN q.req > 0 THEN q.done * 100 / q.req ELSE 0 END),
+       SUM(GREATEST(q.finished - q.start_date + 1, 0)),
+       now()
+FROM (SELECT umq.id,
+             umq.users_id,
+             umq.start_date,
+             CASE WHEN umq.status = 'COMPLETED' THEN CAST(umq.updated_at AS date) ELSE umq.end_date END AS finished,
+             COALESCE(SUM(usq.required_log), 0)                                                       AS req,
+             COALESCE(SUM(usq.completed_log_count), 0)                                                AS done
+      FROM public.users_main_quest umq
+               LEFT JOIN public.users_sub_quest usq ON usq.main_quest_id = umq.id
+      WHERE umq.status IN ('COMPLETED', 'FAILED')
+      GROUP BY umq.id) q
+GROUP BY q.users_id
+ON CONFLICT (users_id) DO NOTHING;
@@ -0,0 +1,47 @@
+--
+-- Incremental completion state: per-sub-quest satisfaction and per-main-quest satisfied count
+--
+
+ALTER TABLE public.users_sub_quest
+    ADD COLUMN IF NOT EXISTS satisfied boolean NOT NULL DEFAULT false,
+    ADD COLUMN IF NOT EXISTS satisfied_period_count integer NOT NULL DEFAULT 0;
+
+ALTER TABLE public.users_main_quest
+    ADD COLUMN IF NOT EXISTS sub_quest_count integer NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS satisfied_sub_quest_count integer NOT NULL DEFAULT 0;
+
+-- WEEKLY_n: number of 7-day weeks (from the main quest start) with at least n logs
+UPDATE public.users_sub_quest usq
+SET satisfied_period_count = w.weeks
+FROM (SELECT s.id, COUNT(*) AS weeks
+      FROM (SELECT l.users_sub_quest_id AS id,
+                   (CAST(l.created_at AS date) - umq.start_date) / 7 AS week,
+                   COUNT(*) AS cnt,
+                   CAST(substring(usq2.frequency_type FROM 8) AS integer) AS required
+            FROM public.users_sub_quest_log l
+                     JOIN public.users_sub_quest usq2 ON usq2.id = l.users_sub_quest_id
+                     JOIN public.users_main_quest umq ON umq.id = usq2.main_quest_id
+            WHERE usq2.frequency_type LIKE 'WEEKLY%'
+            GROUP BY l.users_sub_quest_id, week, usq2.frequency_type) s
+      WHERE s.cnt >= s.required
+      GROUP BY s.id) w
+WHERE w.id = usq.id;
+
+-- DAILY: a log for every day, MONTHLY_n: n logs, WEEKLY_n: every week satisfied
+UPDATE public.users_sub_quest usq
+SET satisfied = CASE
+                    WHEN usq.frequency_type = 'DAILY'
+                        THEN usq.completed_log_count >= umq.end_date - umq.start_date + 1
+                    WHEN usq.frequency_type LIKE 'WEEKLY%'
+                        THEN usq.satisfied_period_count >= CEIL((umq.end_date - umq.start_date + 1) / 7.0)
+                    ELSE usq.completed_log_count >= CAST(substring(usq.frequency_type FROM 9) AS integer) END
+FROM public.users_main_quest umq
+WHERE umq.id = usq.main_quest_id;
+
+UPDATE public.users_main_quest umq
+SET sub_quest_count           = c.total,
+    satisfied_sub_quest_count = c.satisfied
+FROM (SELECT main_quest_id, COUNT(*) AS total, COUNT(*) FILTER (WHERE satisfied) AS satisfied
+      FROM public.users_sub_quest
+      GROUP BY main_quest_id) c
+WHERE c.main_quest_id = umq.id;
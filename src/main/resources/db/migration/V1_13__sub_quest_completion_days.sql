@@ -0,0 +1,35 @@
+--
+-- Per-sub-quest completion bitmap: bit n = a log on (main quest start_date + n days)
+-- Byte n / 8, bit n % 8 (least significant first), matching set_bit on bytea
+--
+
+ALTER TABLE public.users_sub_quest
+    ADD COLUMN IF NOT EXISTS completion_days bytea NOT NULL DEFAULT '\x'::bytea;
+
+UPDATE public.users_sub_quest usq
+SET completion_days = decode(repeat('00', (umq.end_date - umq.start_date + 1 + 7) / 8), 'hex')
+FROM public.users_main_quest umq
+WHERE umq.id = usq.main_quest_id;
+
+DO
+$$
+    DECLARE
+        r record;
+    BEGIN
+        FOR r IN SELECT DISTINCT l.users_sub_quest_id               AS id,
+                                 CAST(l.created_at AS date) - umq.start_date AS day
+                 FROM public.users_sub_quest_log l
+                          JOIN public.users_sub_quest usq ON usq.id = l.users_sub_quest_id
+                          JOIN public.users_main_quest umq ON umq.id = usq.main_quest_id
+                 WHERE CAST(l.created_at AS date) BETWEEN umq.start_date AND umq.end_date
+            LOOP
+                UPDATE public.users_sub_quest
+                SET completion_days = set_bit(completion_days, r.day, 1)
+                WHERE id = r.id;
+            END LOOP;
+    END
+$$;
+
+-- Weekly satisfaction is now evaluated from the bitmap
+ALTER TABLE public.users_sub_quest
+    DROP COLUMN IF EXISTS satisfied_period_count;
@@ -0,0 +1,8 @@
+-- 자정 상태 전환 벌크 UPDATE의 청크 조회용 부분 인덱스
+CREATE INDEX IF NOT EXISTS idx_users_sub_quest_accomplished
+    ON public.users_sub_quest (status)
+    WHERE status IN ('ACCOMPLISHED', 'WEEKLY_ACCOMPLISHED');
+
+CREATE INDEX IF NOT EXISTS idx_users_main_quest_active_end_date
+    ON public.users_main_quest (end_date)
+    WHERE status = 'ACTIVE';
@@ -0,0 +1,7 @@
+-- 주기별 달성 상태(ACCOMPLISHED, WEEKLY_ACCOMPLISHED)는 수행 비트맵과 주기 카운터로 조회 시 계산하므로
+-- 저장된 값은 ACTIVE로 되돌리고, 자정 일괄 전환용 인덱스를 제거합니다.
+UPDATE public.users_sub_quest
+SET status = 'ACTIVE'
+WHERE status IN ('ACCOMPLISHED', 'WEEKLY_ACCOMPLISHED');
+
+DROP INDEX IF EXISTS public.idx_users_sub_quest_accomplished;
@@ -0,0 +1,56 @@
+--
+-- A sub-quest completion is counted at most once per day (completion_days bit), but the V1_9 backfill
+-- counted every log row. Recount the counters as distinct log days, and re-evaluate satisfaction of
+-- ACTIVE sub-quests and the satisfied count of ACTIVE main quests from the recounted values.
+--
+
+UPDATE public.users_sub_quest usq
+SET completed_log_count  = c.completed,
+    current_period_count = c.period_count,
+    period_start         = c.period_start
+FROM (SELECT s.id,
+             ps.period_start,
+             COUNT(ld.day)                                       AS completed,
+             COUNT(ld.day) FILTER (WHERE ld.day >= ps.period_start) AS period_count
+      FROM public.users_sub_quest s
+               JOIN public.users_main_quest umq ON umq.id = s.main_quest_id
+               CROSS JOIN LATERAL (SELECT CASE
+                                              WHEN s.frequency_type = 'DAILY' THEN CURRENT_DATE
+                                              WHEN s.frequency_type LIKE 'WEEKLY%'
+                                                  THEN umq.start_date + ((CURRENT_DATE - umq.start_date) / 7) * 7
+                                              ELSE umq.start_date END AS period_start) ps
+               LEFT JOIN (SELECT DISTINCT l.users_sub_quest_id, CAST(l.created_at AS date) AS day
+                          FROM public.users_sub_quest_log l) ld ON ld.users_sub_quest_id = s.id
+      GROUP BY s.id, ps.period_start) c
+WHERE c.id = usq.id
+  AND (usq.completed_log_count, usq.current_period_count, usq.period_start)
+    IS DISTINCT FROM (c.completed, c.period_count, c.period_start);
+
+-- DAILY: a log day for every day, MONTHLY_n: n log days, WEEKLY_n: every 7-day week has n log days
+UPDATE public.users_sub_quest usq
+SET satisfied = CASE
+                    WHEN usq.frequency_type = 'DAILY'
+                        THEN usq.completed_log_count >= umq.end_date - umq.start_date + 1
+                    WHEN usq.frequency_type LIKE 'WEEKLY%'
+                        THEN (SELECT COUNT(*)
+                              FROM (SELECT 1
+                                    FROM public.users_sub_quest_log l
+                                    WHERE l.users_sub_quest_id = usq.id
+                                      AND CAST(l.created_at AS date) BETWEEN umq.start_date AND umq.end_date
+                                    GROUP BY (CAST(l.created_at AS date) - umq.start_date) / 7
+                                    HAVING COUNT(DISTINCT CAST(l.created_at AS date))
+                                               >= CAST(substring(usq.frequency_type FROM 8) AS integer)) w)
+                             >= CEIL((umq.end_date - umq.start_date + 1) / 7.0)
+                    ELSE usq.completed_log_count >= CAST(substring(usq.frequency_type FROM 9) AS integer) END
+FROM public.users_main_quest umq
+WHERE umq.id = usq.main_quest_id
+  AND usq.status = 'ACTIVE';
+
+UPDATE public.users_main_quest umq
+SET satisfied_sub_quest_count = c.satisfied
+FROM (SELECT main_quest_id, COUNT(*) FILTER (WHERE satisfied) AS satisfied
+      FROM public.users_sub_quest
+      GROUP BY main_quest_id) c
+WHERE c.main_quest_id = umq.id
+  AND umq.status = 'ACTIVE'
+  AND umq.satisfied_sub_quest_count <> c.satisfied;
@@ -0,0 +1,71 @@
+--
+-- Complete ACTIVE main quests whose sub-quests were all satisfied by the V1_12 backfill (as recounted by V1_16).
+-- Sub-quest completion only increments satisfied_sub_quest_count on the first satisfaction,
+-- so these rows would never reach completeMainQuest and would expire to FAILED.
+-- Main quest rewards are granted to total_exp; levels and tiers follow on the next level reconciliation.
+--
+
+CREATE TEMPORARY TABLE satisfied_main_quest ON COMMIT DROP AS
+SELECT umq.id, umq.users_id, umq.start_date, umq.attribute1, umq.exp1, umq.attribute2, umq.exp2
+FROM public.users_main_quest umq
+WHERE umq.status = 'ACTIVE'
+  AND umq.sub_quest_count > 0
+  AND umq.satisfied_sub_quest_count >= umq.sub_quest_count;
+
+UPDATE public.users_main_quest umq
+SET status     = 'COMPLETED',
+    updated_at = now()
+FROM satisfied_main_quest s
+WHERE s.id = umq.id;
+
+UPDATE public.users_sub_quest usq
+SET status = 'COMPLETED'
+FROM satisfied_main_quest s
+WHERE s.id = usq.main_quest_id;
+
+-- Main quest rewards (same rows AttributeService.addExp writes)
+CREATE TEMPORARY TABLE satisfied_main_quest_reward ON COMMIT DROP AS
+SELECT s.id AS main_quest_id, s.users_id, s.attribute1 AS attribute_id, s.exp1 AS exp
+FROM satisfied_main_quest s
+UNION ALL
+SELECT s.id, s.users_id, s.attribute2, s.exp2
+FROM satisfied_main_quest s
+WHERE s.attribute2 IS NOT NULL;
+
+INSERT INTO public.users_attribute_log (users_id, attribute_id, matching_id, exp, source_type, created_at)
+SELECT r.users_id, r.attribute_id, r.main_quest_id, r.exp, 'MAINQUEST', now()
+FROM satisfied_main_quest_reward r;
+
+UPDATE public.users_attribute_progress p
+SET total_exp  = p.total_exp + r.exp,
+    updated_at = now()
+FROM (SELECT users_id, attribute_id, SUM(exp) AS exp
+      FROM satisfied_main_quest_reward
+      GROUP BY users_id, attribute_id) r
+WHERE p.users_id = r.users_id
+  AND p.attribute_id = r.attribute_id;
+
+-- Statistics: same accumulation as UsersQuestStatisticsService.recordFinished (finished today)
+INSERT INTO public.users_quest_statistics (users_id, total_main_quests, total_sub_quest_verifications,
+                                           completion_rate_sum, duration_days_sum, updated_at)
+SELECT q.users_id,
+       COUNT(*),
+       SUM(q.done),
+       SUM(CASE WHEN q.req > 0 THEN q.done * 100 / q.req ELSE 0 END),
+       SUM(GREATEST(CURRENT_DATE - q.start_date + 1, 0)),
+       now()
+FROM (SELECT s.id,
+             s.users_id,
+             s.start_date,
+             COALESCE(SUM(usq.required_log), 0)        AS req,
+             COALESCE(SUM(usq.completed_log_count), 0) AS done
+      FROM satisfied_main_quest s
+               LEFT JOIN public.users_sub_quest usq ON usq.main_quest_id = s.id
+      GROUP BY s.id, s.users_id, s.start_date) q
+GROUP BY q.users_id
+ON CONFLICT (users_id) DO UPDATE SET
+    total_main_quests             = users_quest_statistics.total_main_quests + EXCLUDED.total_main_quests,
+    total_sub_quest_verifications = users_quest_statistics.total_sub_quest_verifications + EXCLUDED.total_sub_quest_verifications,
+    completion_rate_sum           = users_quest_statistics.completion_rate_sum + EXCLUDED.completion_rate_sum,
+    duration_days_sum             = users_quest_statistics.duration_days_sum + EXCLUDED.duration_days_sum,
+    updated_at                    = EXCLUDED.updated_at;
@@ -0,0 +1,40 @@
+--
+-- Persist attribute level and user tier so reads no longer derive them from total_exp
+--
+
+ALTER TABLE public.users_attribute_progress
+    ADD COLUMN IF NOT EXISTS level integer NOT NULL DEFAULT 1;
+
+ALTER TABLE public.users
+    ADD COLUMN IF NOT EXISTS level_sum integer NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS tier text NOT NULL DEFAULT 'BRONZE',
+    ADD COLUMN IF NOT EXISTS tier_level integer NOT NULL DEFAULT 1;
+
+-- Backfill attribute level: first level whose xp_required exceeds total_exp (max level if exceeded)
+UPDATE public.users_attribute_progress p
+SET level = COALESCE(
+        (SELECT MIN(al.level)
+         FROM public.attribute_level al
+         WHERE al.type = a.type AND al.xp_required > p.total_exp),
+        (SELECT MAX(al.level)
+         FROM public.attribute_level al
+         WHERE al.type = a.type))
+FROM public.attribute a
+WHERE a.id = p.attribute_id;
+
+-- Backfill level_sum: sum of (level - 1) over the user's attributes
+UPDATE public.users u
+SET level_sum = s.level_sum
+FROM (SELECT users_id, SUM(level - 1) AS level_sum
+      FROM public.users_attribute_progress
+      GROUP BY users_id) s
+WHERE s.users_id = u.id;
+
+-- Backfill tier: first tier_level whose xp_required exceeds level_sum (max tier if exceeded)
+UPDATE public.users u
+SET tier       = t.grade,
+    tier_level = t.level_output
+FROM public.tier_level t
+WHERE t.level = COALESCE(
+        (SELECT MIN(tl.level) FROM public.tier_level tl WHERE tl.xp_required > u.level_sum),
+        (SELECT MAX(tl.level) FROM public.tier_level tl));
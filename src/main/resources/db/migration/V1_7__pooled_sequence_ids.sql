@@ -0,0 +1,28 @@
+--
+-- Switch user tables from identity columns to pooled sequences (INCREMENT BY 50)
+-- so Hibernate can allocate ids in blocks and batch INSERT statements.
+-- Hibernate's pooled optimizer treats each nextval as the upper bound of a block of 50 ids,
+-- so the sequences restart at max(id) + 50. No column default is kept: rows must be inserted
+-- through JPA, since a plain nextval would collide with ids already handed out in a block.
+-- users_attribute_log keeps its identity column: it is only written by a native multi-row insert.
+--
+
+ALTER TABLE public.users_main_quest ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS public.users_main_quest_id_seq INCREMENT BY 50 OWNED BY public.users_main_quest.id;
+SELECT setval('public.users_main_quest_id_seq', COALESCE((SELECT MAX(id) FROM public.users_main_quest), 0) + 50, false);
+
+ALTER TABLE public.users_sub_quest ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS public.users_sub_quest_id_seq INCREMENT BY 50 OWNED BY public.users_sub_quest.id;
+SELECT setval('public.users_sub_quest_id_seq', COALESCE((SELECT MAX(id) FROM public.users_sub_quest), 0) + 50, false);
+
+ALTER TABLE public.users_sub_quest_log ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS public.users_sub_quest_log_id_seq INCREMENT BY 50 OWNED BY public.users_sub_quest_log.id;
+SELECT setval('public.users_sub_quest_log_id_seq', COALESCE((SELECT MAX(id) FROM public.users_sub_quest_log), 0) + 50, false);
+
+ALTER TABLE public.users_attribute_progress ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS public.users_attribute_progress_id_seq INCREMENT BY 50 OWNED BY public.users_attribute_progress.id;
+SELECT setval('public.users_attribute_progress_id_seq', COALESCE((SELECT MAX(id) FROM public.users_attribute_progress), 0) + 50, false);
+
+ALTER TABLE public.users_agreements ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE IF NOT EXISTS public.users_agreements_id_seq INCREMENT BY 50 OWNED BY public.users_agreements.id;
+SELECT setval('public.users_agreements_id_seq', COALESCE((SELECT MAX(id) FROM public.users_agreements), 0) + 50, false);
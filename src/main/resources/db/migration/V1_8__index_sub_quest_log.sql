@@ -0,0 +1,6 @@
+-- 서브 퀘스트별 로그 수 집계(진행률, 현재 주기 수행 횟수)를 인덱스로 처리
+CREATE INDEX IF NOT EXISTS idx_users_sub_quest_log_sub_quest_created_at
+    ON public.users_sub_quest_log (users_sub_quest_id, created_at);
+
+CREATE INDEX IF NOT EXISTS idx_users_sub_quest_main_quest
+    ON public.users_sub_quest (main_quest_id);
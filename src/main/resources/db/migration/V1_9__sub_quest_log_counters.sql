@@ -0,0 +1,29 @@
+--
+-- Denormalized completion counters on users_sub_quest so progress/period checks read columns instead of logs
+--
+
+ALTER TABLE public.users_sub_quest
+    ADD COLUMN IF NOT EXISTS completed_log_count integer NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS current_period_count integer NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS period_start date;
+
+-- Backfill: period start is today (DAILY), the current 7-day week from the main quest start (WEEKLY_n),
+-- or the main quest start (MONTHLY_n); counts are all logs and logs since the period start
+UPDATE public.users_sub_quest usq
+SET completed_log_count  = c.completed,
+    current_period_count = c.period_count,
+    period_start         = c.period_start
+FROM (SELECT s.id,
+             ps.period_start,
+             COUNT(l.id)                                             AS completed,
+             COUNT(l.id) FILTER (WHERE l.created_at >= ps.period_start) AS period_count
+      FROM public.users_sub_quest s
+               JOIN public.users_main_quest umq ON umq.id = s.main_quest_id
+               CROSS JOIN LATERAL (SELECT CASE
+                                              WHEN s.frequency_type = 'DAILY' THEN CURRENT_DATE
+                                              WHEN s.frequency_type LIKE 'WEEKLY%'
+                                                  THEN umq.start_date + ((CURRENT_DATE - umq.start_date) / 7) * 7
+                                              ELSE umq.start_date END AS period_start) ps
+               LEFT JOIN public.users_sub_quest_log l ON l.users_sub_quest_id = s.id
+      GROUP BY s.id, ps.period_start) c
+WHERE c.id = usq.id;
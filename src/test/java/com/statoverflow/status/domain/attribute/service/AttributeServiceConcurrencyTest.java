@@ -0,0 +1,169 @@
+package com.statoverflow.status.domain.attribute.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.statoverflow.status.domain.attribute.dto.AttributeDto;
+import com.statoverflow.status.domain.attribute.repository.UsersAttributeProgressRepository;
+import com.statoverflow.status.domain.quest.dto.SubQuestLogDto;
+import com.statoverflow.status.domain.quest.dto.request.CreateQuestRequestDto;
+import com.statoverflow.status.domain.quest.dto.response.CreateQuestResponseDto;
+import com.statoverflow.status.domain.quest.dto.response.RewardResponseDto;
+import com.statoverflow.status.domain.quest.enums.DifficultyType;
+import com.statoverflow.status.domain.quest.entity.UsersMainQuest;
+import com.statoverflow.status.domain.quest.enums.FrequencyType;
+import com.statoverflow.status.domain.quest.repository.UsersMainQuestRepository;
+import com.statoverflow.status.domain.quest.service.interfaces.UsersMainQuestService;
+import com.statoverflow.status.domain.quest.service.interfaces.UsersSubQuestService;
+import com.statoverflow.status.domain.users.dto.BasicUsersDto;
+import com.statoverflow.status.domain.users.entity.Users;
+import com.statoverflow.status.domain.users.entity.UsersAttributeProgress;
+import com.statoverflow.status.domain.users.repository.UsersRepository;
+import com.statoverflow.status.domain.users.service.UsersService;
+
+@SpringBootTest
+class AttributeServiceConcurrencyTest {
+
+	private static final List<Long> SUB_QUEST_IDS = List.of(10001L, 10002L, 10003L, 10004L);
+
+	@Autowired
+	private UsersMainQuestService usersMainQuestService;
+
+	@Autowired
+	private UsersSubQuestService usersSubQuestService;
+
+	@Autowired
+	private UsersService usersService;
+
+	@Autowired
+	private UsersRepository usersRepository;
+
+	@Autowired
+	private UsersAttributeProgressRepository usersAttributeProgressRepository;
+
+	@Autowired
+	private UsersMainQuestRepository usersMainQuestRepository;
+
+	@Autowired
+	private AttributeService attributeService;
+
+	@Test
+	void 한_사용자의_서브_퀘스트를_동시에_수행해도_경험치와_레벨_합계가_유실되지_않는다() throws Exception {
+		BasicUsersDto user = usersService.signUp();
+		CreateQuestResponseDto created = usersMainQuestService.create(new CreateQuestRequestDto(
+			1L,
+			1001L,
+			LocalDate.now(),
+			LocalDate.now().plusWeeks(2),
+			SUB_QUEST_IDS.stream()
+				.map(id -> new CreateQuestRequestDto.SubQuestInfo(id, FrequencyType.DAILY, 1))
+				.toList()), user.id());
+		Map<Integer, Long> before = totalExpByAttribute(user.id());
+
+		int threads = created.subQuests().size();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		List<RewardResponseDto> rewards = new ArrayList<>();
+		try {
+			CountDownLatch start = new CountDownLatch(1);
+			List<Callable<RewardResponseDto>> tasks = new ArrayList<>();
+			for (var subQuest : created.subQuests()) {
+				tasks.add(() -> {
+					start.await();
+					return usersSubQuestService.doSubQuest(user.id(),
+						new SubQuestLogDto(subQuest.id(), DifficultyType.NORMAL, null));
+				});
+			}
+			List<Future<RewardResponseDto>> futures = new ArrayList<>();
+			for (Callable<RewardResponseDto> task : tasks) {
+				futures.add(executor.submit(task));
+			}
+			start.countDown();
+			for (Future<RewardResponseDto> future : futures) {
+				rewards.add(future.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		// 각 수행이 지급한 보상을 속성별로 합산한 만큼 누적 경험치가 늘어야 한다.
+		Map<Integer, Long> expected = new HashMap<>(before);
+		for (RewardResponseDto reward : rewards) {
+			assertThat(reward.isMainQuestCompleted()).isFalse();
+			for (AttributeDto attribute : reward.subQuestRewards()) {
+				expected.merge(attribute.id(), (long)attribute.exp(), Long::sum);
+			}
+		}
+		assertThat(totalExpByAttribute(user.id())).isEqualTo(expected);
+
+		// 레벨 합계는 속성별 저장 레벨과 일치해야 한다.
+		int levelSum = usersAttributeProgressRepository.findByUserIdOrderByAttributeId(user.id()).stream()
+			.mapToInt(progress -> progress.getLevel() - 1)
+			.sum();
+		assertThat(usersRepository.findById(user.id()).orElseThrow().getLevelSum()).isEqualTo(levelSum);
+	}
+
+	@Test
+	void 같은_속성_쌍을_반대_순서로_동시에_지급해도_교착되지_않는다() throws Exception {
+		BasicUsersDto user = usersService.signUp();
+		CreateQuestResponseDto created = usersMainQuestService.create(new CreateQuestRequestDto(
+			1L,
+			1001L,
+			LocalDate.now(),
+			LocalDate.now().plusWeeks(2),
+			List.of(new CreateQuestRequestDto.SubQuestInfo(SUB_QUEST_IDS.get(0), FrequencyType.DAILY, 1))), user.id());
+		Users users = usersRepository.findById(user.id()).orElseThrow();
+		UsersMainQuest mainQuest = usersMainQuestRepository.findById(created.id()).orElseThrow();
+		Map<Integer, Long> before = totalExpByAttribute(user.id());
+
+		List<AttributeDto> forward = List.of(new AttributeDto(101, null, 1), new AttributeDto(102, null, 1));
+		List<AttributeDto> backward = List.of(new AttributeDto(102, null, 1), new AttributeDto(101, null, 1));
+		int rounds = 20;
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			for (int i = 0; i < rounds; i++) {
+				CountDownLatch start = new CountDownLatch(1);
+				List<Future<?>> futures = new ArrayList<>();
+				for (List<AttributeDto> attributes : List.of(forward, backward)) {
+					futures.add(executor.submit(() -> {
+						start.await();
+						attributeService.addExp(users, attributes, mainQuest);
+						return null;
+					}));
+				}
+				start.countDown();
+				for (Future<?> future : futures) {
+					future.get();
+				}
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		Map<Integer, Long> after = totalExpByAttribute(user.id());
+		assertThat(after.get(101)).isEqualTo(before.get(101) + 2L * rounds);
+		assertThat(after.get(102)).isEqualTo(before.get(102) + 2L * rounds);
+	}
+
+	private Map<Integer, Long> totalExpByAttribute(Long userId) {
+		Map<Integer, Long> totalExp = new HashMap<>();
+		for (UsersAttributeProgress progress : usersAttributeProgressRepository.findByUserIdOrderByAttributeId(userId)) {
+			totalExp.put(progress.getAttribute().getId(), progress.getTotalExp());
+		}
+		return totalExp;
+	}
+}
@@ -0,0 +1,42 @@
+package com.statoverflow.status.domain.master.catalog;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class AttributeBitmaskIndexTest {
+
+	// 항목 자체를 linked_attribute 값으로 사용
+	private final List<Integer> linkedAttributes = List.of(0b0001, 0b0011, 0b0110, 0b0111, 0b1000, 0b1011);
+	private final AttributeBitmaskIndex<Integer> index = AttributeBitmaskIndex.of(linkedAttributes, Integer::intValue);
+
+	@Test
+	void 요청_비트를_모두_포함하는_항목만_찾는다() {
+		assertThat(index.itemsOf(index.matching(0b0011))).containsExactly(0b0011, 0b0111, 0b1011);
+		assertThat(index.itemsOf(index.matching(0b0110))).containsExactly(0b0110, 0b0111);
+		assertThat(index.itemsOf(index.matching(0b1100))).isEmpty();
+	}
+
+	@Test
+	void 빈_마스크는_모든_항목과_일치한다() {
+		assertThat(index.matching(0).cardinality()).isEqualTo(linkedAttributes.size());
+	}
+
+	@Test
+	void 순번_구간_안에서만_찾는다() {
+		assertThat(index.matching(0b0001, 2, 5).stream().boxed().toList()).containsExactly(3);
+	}
+
+	@Test
+	void 전체_비트마스크_조합에서_선형_비교와_결과가_같다() {
+		for (int mask = 0; mask < 16; mask++) {
+			int required = mask;
+			List<Integer> expected = linkedAttributes.stream()
+				.filter(value -> (value & required) == required)
+				.toList();
+			assertThat(index.itemsOf(index.matching(mask))).isEqualTo(expected);
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package com.statoverflow.status.domain.master.catalog;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class DescriptionTemplateTest {
+
+	@Test
+	void String_format과_같은_결과를_만든다() {
+		String[] sources = {
+			"기상 후 {%d}분 동안 스마트폰 잠금 모드 유지하기",
+			"%d회 반복하기",
+			"매일 %d%% 달성하기",
+			"인자 없는 설명",
+			"끝에 %d"
+		};
+
+		for (String source : sources) {
+			DescriptionTemplate template = DescriptionTemplate.compile(source, 1, 300);
+			for (int arg : new int[] {1, 10, 300, 999}) {
+				assertThat(template.render(arg)).isEqualTo(String.format(source, arg));
+			}
+		}
+	}
+
+	@Test
+	void 해석할_수_없는_지정자는_String_format으로_처리한다() {
+		DescriptionTemplate template = DescriptionTemplate.compile("%3d분", 1, 10);
+
+		assertThat(template.render(5)).isEqualTo("  5분");
+	}
+
+	@Test
+	void 범위_안의_렌더링_결과는_재사용한다() {
+		DescriptionTemplate template = DescriptionTemplate.compile("{%d}분", 1, 60);
+
+		assertThat(template.render(10)).isSameAs(template.render(10));
+	}
+
+	@Test
+	void 저장용_설명은_actionUnitNum만_치환한다() {
+		assertThat(DescriptionTemplate.compile("{actionUnitNum}분 걷기").bind(30)).isEqualTo("30분 걷기");
+
+		String source = "{%d}분 걷기";
+		assertThat(DescriptionTemplate.compile(source).bind(30)).isSameAs(source);
+	}
+}
@@ -0,0 +1,35 @@
+package com.statoverflow.status.domain.master.catalog;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class LevelCurveIndexTest {
+
+	// attribute_level 초기 데이터와 같은 형태: 레벨 n의 요구 경험치는 8n
+	private final LevelCurveIndex.Curve curve = LevelCurveIndex.Curve.of(
+		new int[] {1, 2, 3, 4},
+		new long[] {8, 16, 24, 32});
+
+	@Test
+	void 요구_경험치보다_큰_첫_구간을_찾는다() {
+		assertThat(curve.level(curve.indexOf(0))).isEqualTo(1);
+		assertThat(curve.level(curve.indexOf(7))).isEqualTo(1);
+		assertThat(curve.level(curve.indexOf(8))).isEqualTo(2);
+		assertThat(curve.level(curve.indexOf(23))).isEqualTo(3);
+	}
+
+	@Test
+	void 구간의_시작_경험치와_다음_요구_경험치를_반환한다() {
+		int index = curve.indexOf(20);
+
+		assertThat(curve.baseExp(index)).isEqualTo(16);
+		assertThat(curve.xpRequired(index)).isEqualTo(24);
+		assertThat(curve.baseExp(curve.indexOf(3))).isZero();
+	}
+
+	@Test
+	void 최대_레벨을_넘으면_마지막_구간으로_고정한다() {
+		assertThat(curve.level(curve.indexOf(1_000))).isEqualTo(4);
+	}
+}
@@ -0,0 +1,76 @@
+package com.statoverflow.status.domain.quest.entity;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class CompletionBitmapTest {
+
+	private static final LocalDate START = LocalDate.of(2025, 1, 1);
+	private static final int TOTAL_DAYS = 200;
+
+	@Test
+	void PostgreSQL_set_bit과_같은_비트_순서를_사용한다() {
+		byte[] bytes = CompletionBitmap.emptyBytes(TOTAL_DAYS);
+		bytes[1] = 0x02; // set_bit(bytes, 9, 1)
+
+		CompletionBitmap bitmap = CompletionBitmap.of(bytes);
+
+		assertThat(bytes).hasSize(25);
+		assertThat(bitmap.isSet(9)).isTrue();
+		assertThat(bitmap.isSet(8)).isFalse();
+		assertThat(bitmap.count()).isEqualTo(1);
+	}
+
+	@Test
+	void 구간_수행_일수가_로그_날짜_필터링_결과와_같다() {
+		Random random = new Random(42);
+		List<LocalDate> logDates = IntStream.range(0, TOTAL_DAYS)
+			.filter(day -> random.nextInt(3) == 0)
+			.mapToObj(START::plusDays)
+			.toList();
+		CompletionBitmap bitmap = bitmapOf(logDates);
+
+		for (int from = 0; from < TOTAL_DAYS; from += 5) {
+			for (int to = from; to <= TOTAL_DAYS; to += 7) {
+				LocalDate fromDate = START.plusDays(from);
+				LocalDate toDate = START.plusDays(to);
+				long expected = logDates.stream()
+					.filter(date -> !date.isBefore(fromDate) && date.isBefore(toDate))
+					.count();
+
+				assertThat(bitmap.count(from, to)).as("[%d, %d)", from, to).isEqualTo((int)expected);
+			}
+		}
+		assertThat(bitmap.count()).isEqualTo(logDates.size());
+	}
+
+	@Test
+	void 모든_주차가_목표를_채웠는지_확인한다() {
+		// 매주 첫 이틀 수행, 마지막 주차(3일)도 이틀 수행
+		List<LocalDate> logDates = IntStream.range(0, 17)
+			.filter(day -> day % 7 < 2)
+			.mapToObj(START::plusDays)
+			.toList();
+		CompletionBitmap bitmap = bitmapOf(logDates);
+
+		assertThat(bitmap.everyWeekAtLeast(17, 2)).isTrue();
+		assertThat(bitmap.everyWeekAtLeast(17, 3)).isFalse();
+		assertThat(bitmap.everyWeekAtLeast(22, 2)).isFalse();
+	}
+
+	private CompletionBitmap bitmapOf(List<LocalDate> logDates) {
+		byte[] bytes = CompletionBitmap.emptyBytes(TOTAL_DAYS);
+		for (LocalDate date : logDates) {
+			int day = (int)ChronoUnit.DAYS.between(START, date);
+			bytes[day >>> 3] |= (byte)(1 << (day & 7));
+		}
+		return CompletionBitmap.of(bytes);
+	}
+}
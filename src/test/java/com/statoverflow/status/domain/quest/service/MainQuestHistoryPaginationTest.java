@@ -0,0 +1,97 @@
+package com.statoverflow.status.domain.quest.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.statoverflow.status.domain.quest.dto.request.CreateQuestRequestDto;
+import com.statoverflow.status.domain.quest.dto.response.CreateQuestResponseDto;
+import com.statoverflow.status.domain.quest.dto.response.QuestHistoryPageDto;
+import com.statoverflow.status.domain.quest.enums.FrequencyType;
+import com.statoverflow.status.domain.quest.service.interfaces.UsersMainQuestService;
+import com.statoverflow.status.domain.users.dto.BasicUsersDto;
+import com.statoverflow.status.domain.users.service.UsersService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class MainQuestHistoryPaginationTest {
+
+	private static final int QUEST_COUNT = 10_000;
+	private static final int PAGE_SIZE = 100;
+
+	@Autowired
+	private UsersMainQuestService usersMainQuestService;
+
+	@Autowired
+	private UsersService usersService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private QuestFixture fixture;
+
+	@BeforeEach
+	void setUp() {
+		fixture = new QuestFixture(usersService, usersMainQuestService, jdbcTemplate);
+	}
+
+	@AfterEach
+	void tearDown() {
+		fixture.cleanUp();
+	}
+
+	@Test
+	void 만건의_히스토리도_페이지마다_같은_수의_쿼리로_끝까지_조회된다() {
+		BasicUsersDto user = fixture.signUp();
+		CreateQuestResponseDto template = fixture.createQuest(user.id(), 1001L,
+			LocalDate.now().minusWeeks(2), LocalDate.now().minusDays(1),
+			List.of(new CreateQuestRequestDto.SubQuestInfo(10001L, FrequencyType.DAILY, 1)));
+
+		// 생성한 메인 퀘스트를 복제해 완료된 퀘스트 1만 건을 만든다.
+		jdbcTemplate.update("INSERT INTO users_main_quest (id, users_id, main_quest_id, title, attributes, "
+			+ "start_date, end_date, attribute1, attribute2, exp1, exp2, created_at, updated_at, status) "
+			+ "SELECT nextval('users_main_quest_id_seq'), users_id, main_quest_id, title, attributes, "
+			+ "start_date, end_date, attribute1, attribute2, exp1, exp2, created_at, "
+			+ "now() - make_interval(secs => g), 'COMPLETED' "
+			+ "FROM users_main_quest, generate_series(1, ?) g WHERE id = ?", QUEST_COUNT, template.id());
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		Set<Long> seen = new HashSet<>();
+		long firstPageStatements = -1;
+		long lastPageStatements = -1;
+		String cursor = null;
+
+		do {
+			statistics.clear();
+			QuestHistoryPageDto page = usersMainQuestService.getUsersMainQuestHistory(user.id(), cursor, PAGE_SIZE);
+			long statements = statistics.getPrepareStatementCount();
+			if (firstPageStatements < 0) {
+				firstPageStatements = statements;
+			}
+			lastPageStatements = statements;
+
+			page.quests().forEach(quest -> assertThat(seen.add(quest.data().id())).isTrue());
+			cursor = page.nextCursor();
+		} while (cursor != null);
+
+		assertThat(seen).hasSize(QUEST_COUNT);
+		// 페이지 조회 1회 + 진행률 집계 1회 (+ 영속성 컨텍스트에 없는 속성 조회), 깊이와 무관
+		assertThat(lastPageStatements).isLessThanOrEqualTo(firstPageStatements);
+	}
+}
@@ -0,0 +1,119 @@
+package com.statoverflow.status.domain.quest.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.statoverflow.status.domain.quest.dto.response.CreateQuestResponseDto;
+import com.statoverflow.status.domain.quest.dto.response.UsersMainQuestResponseDto;
+import com.statoverflow.status.domain.quest.entity.UsersSubQuest;
+import com.statoverflow.status.domain.quest.entity.UsersSubQuestLog;
+import com.statoverflow.status.domain.quest.enums.DifficultyType;
+import com.statoverflow.status.domain.quest.enums.FrequencyType;
+import com.statoverflow.status.domain.quest.repository.UsersSubQuestLogRepository;
+import com.statoverflow.status.domain.quest.repository.UsersSubQuestRepository;
+import com.statoverflow.status.domain.quest.service.interfaces.UsersMainQuestService;
+import com.statoverflow.status.domain.users.dto.BasicUsersDto;
+import com.statoverflow.status.domain.users.service.UsersService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class MainQuestProgressQueryCountTest {
+
+	private static final int LOG_COUNT = 300;
+
+	@Autowired
+	private UsersMainQuestService usersMainQuestService;
+
+	@Autowired
+	private UsersService usersService;
+
+	@Autowired
+	private UsersSubQuestRepository usersSubQuestRepository;
+
+	@Autowired
+	private UsersSubQuestLogRepository usersSubQuestLogRepository;
+
+	@Autowired
+	private SubQuestCounterReconciliationService subQuestCounterReconciliationService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private QuestFixture fixture;
+
+	@BeforeEach
+	void setUp() {
+		fixture = new QuestFixture(usersService, usersMainQuestService, jdbcTemplate);
+	}
+
+	@AfterEach
+	void tearDown() {
+		fixture.cleanUp();
+	}
+
+	@Test
+	void 메인_퀘스트_목록_조회_쿼리_수는_로그_수와_무관하다() {
+		BasicUsersDto user = fixture.signUp();
+		CreateQuestResponseDto created = fixture.createQuest(user.id(), 1001L, FrequencyType.DAILY, 52);
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		usersMainQuestService.getUsersMainQuests(user.id());
+		long withoutLogs = statistics.getPrepareStatementCount();
+
+		UsersSubQuest subQuest = usersSubQuestRepository.findById(created.subQuests().get(0).id()).orElseThrow();
+		usersSubQuestLogRepository.saveAll(IntStream.range(0, LOG_COUNT)
+			.mapToObj(i -> UsersSubQuestLog.builder()
+				.usersSubQuest(subQuest)
+				.difficulty(DifficultyType.NORMAL)
+				.build())
+			.toList());
+		// 수행은 하루에 한 번만 세므로 로그를 기간 안의 서로 다른 날짜로 옮긴다.
+		jdbcTemplate.update("UPDATE users_sub_quest_log l "
+			+ "SET created_at = l.created_at + CAST(n.rn AS integer) * interval '1 day' "
+			+ "FROM (SELECT id, row_number() OVER (ORDER BY id) - 1 AS rn "
+			+ "FROM users_sub_quest_log WHERE users_sub_quest_id = ?) n WHERE n.id = l.id", subQuest.getId());
+		// 로그를 직접 넣었으므로 카운터는 정합성 점검으로 맞춘다.
+		subQuestCounterReconciliationService.reconcile();
+
+		statistics.clear();
+		List<UsersMainQuestResponseDto> quests = usersMainQuestService.getUsersMainQuests(user.id());
+
+		// 필요 로그 365건 중 300건 수행
+		assertThat(quests).singleElement()
+			.extracting(UsersMainQuestResponseDto::progress)
+			.isEqualTo(LOG_COUNT * 100 / 365);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(withoutLogs);
+		assertThat(statistics.getEntityLoadCount()).isLessThan(LOG_COUNT);
+	}
+
+	@Test
+	void 메인_퀘스트_상세_조회는_보유_퀘스트_수와_무관하게_한_번의_쿼리로_끝난다() {
+		BasicUsersDto user = fixture.signUp();
+		List<CreateQuestResponseDto> created = fixture.createQuests(user.id(), FrequencyType.WEEKLY_3);
+		Long targetId = created.get(created.size() - 1).id();
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		assertThat(usersMainQuestService.getUsersMainQuestById(user.id(), targetId).data().id()).isEqualTo(targetId);
+
+		// 메인 퀘스트 + 속성 + 서브 퀘스트(entity graph) 1회
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+}
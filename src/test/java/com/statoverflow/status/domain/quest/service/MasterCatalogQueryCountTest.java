@@ -0,0 +1,88 @@
+package com.statoverflow.status.domain.quest.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.statoverflow.status.domain.master.catalog.MasterCatalog;
+import com.statoverflow.status.domain.quest.service.interfaces.MainQuestService;
+import com.statoverflow.status.domain.quest.service.interfaces.SubQuestService;
+import com.statoverflow.status.domain.quest.service.interfaces.ThemeService;
+import com.statoverflow.status.domain.users.dto.BasicUsersDto;
+import com.statoverflow.status.domain.users.service.UsersService;
+
+@SpringBootTest(properties =
+	"spring.jpa.properties.hibernate.session_factory.statement_inspector="
+		+ "com.statoverflow.status.domain.quest.service.MasterCatalogQueryCountTest$MasterTableCountingInspector")
+class MasterCatalogQueryCountTest {
+
+	@Autowired
+	private ThemeService themeService;
+
+	@Autowired
+	private MainQuestService mainQuestService;
+
+	@Autowired
+	private SubQuestService subQuestService;
+
+	@Autowired
+	private UsersService usersService;
+
+	@Autowired
+	private MasterCatalog masterCatalog;
+
+	@Test
+	void 퀘스트_생성_조회_흐름은_마스터_테이블을_조회하지_않는다() {
+		BasicUsersDto user = usersService.signUp();
+
+		MasterTableCountingInspector.reset();
+		assertThat(themeService.getThemes(user.id())).isNotEmpty();
+		assertThat(mainQuestService.getMainQuests(user.id(), 1L)).isNotEmpty();
+		assertThat(subQuestService.getSubQuests(1001L, user.id())).isNotEmpty();
+
+		assertThat(MasterTableCountingInspector.queries()).isZero();
+	}
+
+	@Test
+	void 리로드하면_새_버전의_스냅샷으로_교체된다() {
+		MasterCatalog.Snapshot before = masterCatalog.current();
+
+		MasterCatalog.Snapshot after = masterCatalog.reload();
+
+		assertThat(after.version()).isEqualTo(before.version() + 1);
+		assertThat(masterCatalog.current()).isSameAs(after);
+		assertThat(after.themes()).hasSameSizeAs(before.themes());
+		assertThat(after.mainSubQuestsOf(1001L)).hasSameSizeAs(before.mainSubQuestsOf(1001L));
+	}
+
+	public static class MasterTableCountingInspector implements StatementInspector {
+
+		// users_main_quest 같은 사용자 테이블은 제외 ('_'는 단어 문자라 경계가 생기지 않음)
+		private static final Pattern MASTER_TABLE = Pattern.compile(
+			"\\b(attribute|quest_theme|main_quest|sub_quest|main_sub_quest|nickname_generator)\\b");
+		private static final AtomicInteger QUERIES = new AtomicInteger();
+
+		static void reset() {
+			QUERIES.set(0);
+		}
+
+		static int queries() {
+			return QUERIES.get();
+		}
+
+		@Override
+		public String inspect(String sql) {
+			if (MASTER_TABLE.matcher(sql.toLowerCase(Locale.ROOT)).find()) {
+				QUERIES.incrementAndGet();
+			}
+			return sql;
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package com.statoverflow.status.domain.quest.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.statoverflow.status.domain.quest.dto.request.CreateQuestRequestDto;
+import com.statoverflow.status.domain.quest.enums.FrequencyType;
+import com.statoverflow.status.domain.quest.service.interfaces.UsersMainQuestService;
+import com.statoverflow.status.domain.users.dto.BasicUsersDto;
+import com.statoverflow.status.domain.users.service.UsersService;
+
+@SpringBootTest(properties =
+	"spring.jpa.properties.hibernate.session_factory.statement_inspector="
+		+ "com.statoverflow.status.domain.quest.service.QuestCreationStatementCountTest$InsertCountingInspector")
+class QuestCreationStatementCountTest {
+
+	@Autowired
+	private UsersMainQuestService usersMainQuestService;
+
+	@Autowired
+	private UsersService usersService;
+
+	@Test
+	void 퀘스트_생성_시_INSERT는_테이블당_한_번_조회는_고정된_횟수만_실행된다() {
+		BasicUsersDto user = usersService.signUp();
+		CreateQuestRequestDto dto = new CreateQuestRequestDto(
+			1L,
+			1001L,
+			LocalDate.now(),
+			LocalDate.now().plusWeeks(2),
+			List.of(
+				new CreateQuestRequestDto.SubQuestInfo(10001L, FrequencyType.DAILY, 1),
+				new CreateQuestRequestDto.SubQuestInfo(10002L, FrequencyType.WEEKLY_3, 1),
+				new CreateQuestRequestDto.SubQuestInfo(10003L, FrequencyType.DAILY, 1),
+				new CreateQuestRequestDto.SubQuestInfo(10004L, FrequencyType.WEEKLY_3, 1)));
+
+		InsertCountingInspector.reset();
+		usersMainQuestService.create(dto, user.id());
+
+		// users_main_quest 1건 + users_sub_quest 4건(하나의 배치)
+		assertThat(InsertCountingInspector.inserts()).isEqualTo(2);
+		// main_quest, users, main_sub_quest(IN 조회 1번) + 시퀀스 조회 최대 2번. 서브 퀘스트 수와 무관해야 한다
+		assertThat(InsertCountingInspector.selects()).isLessThanOrEqualTo(5);
+	}
+
+	public static class InsertCountingInspector implements StatementInspector {
+
+		private static final AtomicInteger INSERTS = new AtomicInteger();
+		private static final AtomicInteger SELECTS = new AtomicInteger();
+
+		static void reset() {
+			INSERTS.set(0);
+			SELECTS.set(0);
+		}
+
+		static int inserts() {
+			return INSERTS.get();
+		}
+
+		static int selects() {
+			return SELECTS.get();
+		}
+
+		@Override
+		public String inspect(String sql) {
+			String normalized = sql.trim().toLowerCase(Locale.ROOT);
+			if (normalized.startsWith("insert")) {
+				INSERTS.incrementAndGet();
+			} else if (normalized.startsWith("select")) {
+				SELECTS.incrementAndGet();
+			}
+			return sql;
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package com.statoverflow.status.domain.quest.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.statoverflow.status.domain.quest.dto.request.CreateQuestRequestDto;
+import com.statoverflow.status.domain.quest.dto.response.CreateQuestResponseDto;
+import com.statoverflow.status.domain.quest.enums.FrequencyType;
+import com.statoverflow.status.domain.quest.service.interfaces.UsersMainQuestService;
+import com.statoverflow.status.domain.users.dto.BasicUsersDto;
+import com.statoverflow.status.domain.users.service.UsersService;
+
+/**
+ * 퀘스트 테스트용 사용자/퀘스트 픽스처입니다.
+ * 만든 사용자와 그 사용자의 퀘스트, 로그, 경험치, 통계는 cleanUp()에서 모두 삭제합니다.
+ */
+class QuestFixture {
+
+	// 메인 퀘스트마다 연결된 서브 퀘스트 하나
+	static final Map<Long, Long> SUB_QUEST_OF = Map.of(1001L, 10001L, 1002L, 10008L, 1003L, 10009L);
+
+	private final UsersService usersService;
+	private final UsersMainQuestService usersMainQuestService;
+	private final JdbcTemplate jdbcTemplate;
+
+	private final List<Long> userIds = new ArrayList<>();
+
+	QuestFixture(UsersService usersService, UsersMainQuestService usersMainQuestService, JdbcTemplate jdbcTemplate) {
+		this.usersService = usersService;
+		this.usersMainQuestService = usersMainQuestService;
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	BasicUsersDto signUp() {
+		BasicUsersDto user = usersService.signUp();
+		userIds.add(user.id());
+		return user;
+	}
+
+	// 오늘 시작해 weeks주 동안 진행하는 서브 퀘스트 하나짜리 메인 퀘스트
+	CreateQuestResponseDto createQuest(Long userId, long mainQuestId, FrequencyType frequency, int weeks) {
+		return createQuest(userId, mainQuestId, LocalDate.now(), LocalDate.now().plusWeeks(weeks),
+			List.of(new CreateQuestRequestDto.SubQuestInfo(SUB_QUEST_OF.get(mainQuestId), frequency, 1)));
+	}
+
+	// 기간과 서브 퀘스트 구성을 직접 지정한 메인 퀘스트
+	CreateQuestResponseDto createQuest(Long userId, long mainQuestId, LocalDate startDate, LocalDate endDate,
+		List<CreateQuestRequestDto.SubQuestInfo> subQuests) {
+		return usersMainQuestService.create(
+			new CreateQuestRequestDto(1L, mainQuestId, startDate, endDate, subQuests), userId);
+	}
+
+	// 메인 퀘스트 1001, 1002, 1003을 순서대로 만들고 생성 결과를 반환
+	List<CreateQuestResponseDto> createQuests(Long userId, FrequencyType frequency) {
+		List<CreateQuestResponseDto> created = new ArrayList<>();
+		for (long mainQuestId : new long[] {1001L, 1002L, 1003L}) {
+			created.add(createQuest(userId, mainQuestId, frequency, 2));
+		}
+		return created;
+	}
+
+	void cleanUp() {
+		for (Long userId : userIds) {
+			jdbcTemplate.update("DELETE FROM users_sub_quest_log WHERE users_sub_quest_id IN "
+				+ "(SELECT id FROM users_sub_quest WHERE users_id = ?)", userId);
+			jdbcTemplate.update("DELETE FROM users_sub_quest WHERE users_id = ?", userId);
+			jdbcTemplate.update("DELETE FROM users_main_quest WHERE users_id = ?", userId);
+			jdbcTemplate.update("DELETE FROM users_attribute_log WHERE users_id = ?", userId);
+			jdbcTemplate.update("DELETE FROM users_attribute_progress WHERE users_id = ?", userId);
+			jdbcTemplate.update("DELETE FROM users_quest_statistics WHERE users_id = ?", userId);
+			jdbcTemplate.update("DELETE FROM users_agreements WHERE users_id = ?", userId);
+			jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+		}
+		userIds.clear();
+	}
+}
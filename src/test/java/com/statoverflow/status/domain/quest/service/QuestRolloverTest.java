@@ -0,0 +1,70 @@
+package com.statoverflow.status.domain.quest.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.statoverflow.status.domain.quest.dto.request.CreateQuestRequestDto;
+import com.statoverflow.status.domain.quest.dto.response.CreateQuestResponseDto;
+import com.statoverflow.status.domain.quest.enums.FrequencyType;
+import com.statoverflow.status.domain.quest.service.interfaces.UsersMainQuestService;
+import com.statoverflow.status.domain.users.dto.BasicUsersDto;
+import com.statoverflow.status.domain.users.service.UsersService;
+
+@SpringBootTest
+class QuestRolloverTest {
+
+	// 백만 행 측정은 -Drollover.fixture.rows=1000000 으로 실행
+	private static final int ROWS = Integer.getInteger("rollover.fixture.rows", 100_000);
+
+	@Autowired
+	private QuestRolloverService questRolloverService;
+
+	@Autowired
+	private UsersMainQuestService usersMainQuestService;
+
+	@Autowired
+	private UsersService usersService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void 만료된_메인_퀘스트를_청크_단위_벌크_UPDATE로_처리한다() {
+		LocalDate today = LocalDate.now();
+		BasicUsersDto user = usersService.signUp();
+		CreateQuestResponseDto expired = usersMainQuestService.create(new CreateQuestRequestDto(
+			1L,
+			1001L,
+			today.minusWeeks(2),
+			today.minusDays(1),
+			List.of(new CreateQuestRequestDto.SubQuestInfo(10001L, FrequencyType.DAILY, 1))), user.id());
+		cloneMainQuests(expired.id(), ROWS);
+
+		QuestRolloverService.Result expiredResult = questRolloverService.expireMainQuests(today, 0L, Long.MAX_VALUE);
+
+		assertThat(expiredResult.rows()).isGreaterThanOrEqualTo(ROWS + 1);
+		assertThat(expiredResult.chunks()).isGreaterThan(1);
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM users_main_quest WHERE users_id = ? AND status = 'ACTIVE' AND end_date < ?",
+			Integer.class, user.id(), today)).isZero();
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT total_main_quests FROM users_quest_statistics WHERE users_id = ?",
+			Integer.class, user.id())).isEqualTo(ROWS + 1);
+	}
+
+	private void cloneMainQuests(Long mainQuestId, int rows) {
+		jdbcTemplate.update("INSERT INTO users_main_quest (id, users_id, main_quest_id, title, attributes, "
+			+ "start_date, end_date, attribute1, attribute2, exp1, exp2, created_at, updated_at, status, "
+			+ "sub_quest_count, satisfied_sub_quest_count) "
+			+ "SELECT nextval('users_main_quest_id_seq'), users_id, main_quest_id, title, attributes, "
+			+ "start_date, end_date, attribute1, attribute2, exp1, exp2, created_at, updated_at, 'ACTIVE', 0, 0 "
+			+ "FROM users_main_quest, generate_series(1, ?) g WHERE id = ?", rows, mainQuestId);
+	}
+}
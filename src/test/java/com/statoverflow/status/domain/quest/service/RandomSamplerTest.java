@@ -0,0 +1,92 @@
+package com.statoverflow.status.domain.quest.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class RandomSamplerTest {
+
+	private static final int THREADS = 32;
+
+	private final List<Integer> themes = IntStream.range(0, 20).boxed().toList();
+	private final List<Integer> subQuests = IntStream.range(0, 8).boxed().toList();
+
+	@Test
+	void 요청한_개수만큼_중복_없이_추출한다() {
+		RandomSampler sampler = new RandomSampler(null);
+
+		for (int i = 0; i < 1_000; i++) {
+			// 후보가 많은 경우(교환 기록)와 적은 경우(인덱스 배열)를 모두 확인
+			assertThat(sampler.sample(themes, 3)).hasSize(3).doesNotHaveDuplicates().isSubsetOf(themes);
+			assertThat(sampler.sample(subQuests, 4)).hasSize(4).doesNotHaveDuplicates().isSubsetOf(subQuests);
+		}
+	}
+
+	@Test
+	void 요청_개수가_후보_수_이상이면_전체를_섞어_반환한다() {
+		RandomSampler sampler = new RandomSampler(null);
+
+		assertThat(sampler.sample(subQuests, 10)).containsExactlyInAnyOrderElementsOf(subQuests);
+		assertThat(sampler.sample(subQuests, 0)).isEmpty();
+		assertThat(sampler.sample(List.of(), 3)).isEmpty();
+	}
+
+	@Test
+	void 같은_시드면_같은_결과를_반환한다() {
+		RandomSampler first = new RandomSampler(42L);
+		RandomSampler second = new RandomSampler(42L);
+
+		for (int i = 0; i < 100; i++) {
+			assertThat(first.sample(themes, 3)).isEqualTo(second.sample(themes, 3));
+		}
+	}
+
+	@Test
+	void 모든_위치가_고르게_선택된다() {
+		RandomSampler sampler = new RandomSampler(7L);
+		int[] counts = new int[themes.size()];
+		int draws = 200_000;
+
+		for (int i = 0; i < draws; i++) {
+			counts[sampler.sample(themes, 1).get(0)]++;
+		}
+
+		double expected = (double)draws / themes.size();
+		for (int count : counts) {
+			assertThat(count).isBetween((int)(expected * 0.9), (int)(expected * 1.1));
+		}
+	}
+
+	@Test
+	void 여러_스레드에서_동시에_추출한다() throws Exception {
+		RandomSampler sampler = new RandomSampler(null);
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		List<Future<Boolean>> futures = new ArrayList<>();
+
+		for (int t = 0; t < THREADS; t++) {
+			futures.add(executor.submit(() -> {
+				for (int i = 0; i < 10_000; i++) {
+					// 테마 / 메인 퀘스트 / 서브 퀘스트 리롤 경로의 추출 크기
+					if (sampler.sample(themes, 3).stream().distinct().count() != 3
+						|| sampler.sample(themes, 2).stream().distinct().count() != 2
+						|| sampler.sample(subQuests, 4).stream().distinct().count() != 4) {
+						return false;
+					}
+				}
+				return true;
+			}));
+		}
+
+		for (Future<Boolean> future : futures) {
+			assertThat(future.get()).isTrue();
+		}
+		executor.shutdown();
+	}
+}
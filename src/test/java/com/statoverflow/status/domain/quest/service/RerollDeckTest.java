@@ -0,0 +1,78 @@
+package com.statoverflow.status.domain.quest.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+
+@SpringBootTest
+class RerollDeckTest {
+
+	private final List<Long> candidates = LongStream.rangeClosed(1, 10).boxed().toList();
+
+	@Autowired
+	private RerollDeck rerollDeck;
+
+	@Autowired
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Test
+	void 리롤은_덱에서_아직_보여주지_않은_ID만_꺼낸다() {
+		Long userId = ThreadLocalRandom.current().nextLong(1_000_000_000L, Long.MAX_VALUE);
+		AtomicInteger rebuilds = new AtomicInteger();
+
+		List<Long> shown = new ArrayList<>(rerollDeck.deal(RerollDeck.Flow.THEME, userId, 0L, candidates, 3));
+		shown.addAll(rerollDeck.redeal(RerollDeck.Flow.THEME, userId, 0L, 3,
+			() -> countRebuild(rebuilds), List.of(), List.of()));
+		shown.addAll(rerollDeck.redeal(RerollDeck.Flow.THEME, userId, 0L, 3,
+			() -> countRebuild(rebuilds), List.of(), List.of()));
+
+		assertThat(shown).hasSize(9).doesNotHaveDuplicates().isSubsetOf(candidates);
+		assertThat(rebuilds).hasValue(0);
+	}
+
+	@Test
+	void 덱이_모자라면_회피_목록을_뒤로_미룬_새_덱에서_채운다() {
+		Long userId = ThreadLocalRandom.current().nextLong(1_000_000_000L, Long.MAX_VALUE);
+		AtomicInteger rebuilds = new AtomicInteger();
+		List<Long> avoid = LongStream.rangeClosed(1, 8).boxed().toList();
+
+		// 덱에는 1개만 남기고 나머지는 이미 보여준 상황
+		rerollDeck.deal(RerollDeck.Flow.SUB_QUEST, userId, 1001L, List.of(10L, 9L), 1);
+		List<Long> drawn = rerollDeck.redeal(RerollDeck.Flow.SUB_QUEST, userId, 1001L, 3,
+			() -> countRebuild(rebuilds), List.of(7L), avoid);
+
+		assertThat(rebuilds).hasValue(1);
+		assertThat(drawn).hasSize(3).doesNotHaveDuplicates().doesNotContain(7L);
+		// 덱에 남은 ID + 회피 목록에 없는 ID가 먼저 나옵니다.
+		assertThat(drawn.subList(0, 2)).containsExactlyInAnyOrder(9L, 10L);
+		assertThat(avoid).contains(drawn.get(2));
+	}
+
+	@Test
+	void 새_덱은_기존_덱을_대체하고_항상_TTL을_가진다() {
+		Long userId = ThreadLocalRandom.current().nextLong(1_000_000_000L, Long.MAX_VALUE);
+		String key = RerollDeck.KEY_PREFIX + "main_quest:" + userId + ":1";
+		List<Long> many = LongStream.rangeClosed(1, 2_500).boxed().toList();
+
+		rerollDeck.deal(RerollDeck.Flow.MAIN_QUEST, userId, 1L, candidates, 3);
+		rerollDeck.deal(RerollDeck.Flow.MAIN_QUEST, userId, 1L, many, 3);
+
+		// 이전 덱의 남은 7개가 섞이지 않고, 1000개 단위로 나누어 저장한 새 덱만 남는다.
+		assertThat(redisTemplate.opsForList().size(key)).isEqualTo(2_497L);
+		assertThat(redisTemplate.getExpire(key)).isPositive();
+	}
+
+	private List<Long> countRebuild(AtomicInteger rebuilds) {
+		rebuilds.incrementAndGet();
+		return candidates;
+	}
+}
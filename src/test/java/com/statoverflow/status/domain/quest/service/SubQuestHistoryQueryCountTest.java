@@ -0,0 +1,85 @@
+package com.statoverflow.status.domain.quest.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.statoverflow.status.domain.quest.dto.SubQuestLogDto;
+import com.statoverflow.status.domain.quest.dto.request.CreateQuestRequestDto;
+import com.statoverflow.status.domain.quest.dto.response.CreateQuestResponseDto;
+import com.statoverflow.status.domain.quest.dto.response.QuestHistoryByDateDto;
+import com.statoverflow.status.domain.quest.enums.DifficultyType;
+import com.statoverflow.status.domain.quest.enums.FrequencyType;
+import com.statoverflow.status.domain.quest.service.interfaces.UsersMainQuestService;
+import com.statoverflow.status.domain.quest.service.interfaces.UsersSubQuestService;
+import com.statoverflow.status.domain.users.dto.BasicUsersDto;
+import com.statoverflow.status.domain.users.service.UsersService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class SubQuestHistoryQueryCountTest {
+
+	@Autowired
+	private UsersMainQuestService usersMainQuestService;
+
+	@Autowired
+	private UsersSubQuestService usersSubQuestService;
+
+	@Autowired
+	private UsersService usersService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private QuestFixture fixture;
+
+	@BeforeEach
+	void setUp() {
+		fixture = new QuestFixture(usersService, usersMainQuestService, jdbcTemplate);
+	}
+
+	@AfterEach
+	void tearDown() {
+		fixture.cleanUp();
+	}
+
+	@Test
+	void 서브_퀘스트_히스토리는_날짜_조회와_fetch_join_두_번의_쿼리로_끝난다() {
+		BasicUsersDto user = fixture.signUp();
+		CreateQuestResponseDto created = fixture.createQuest(user.id(), 1001L,
+			LocalDate.now(), LocalDate.now().plusWeeks(2),
+			List.of(
+				new CreateQuestRequestDto.SubQuestInfo(10001L, FrequencyType.DAILY, 1),
+				new CreateQuestRequestDto.SubQuestInfo(10002L, FrequencyType.WEEKLY_3, 1)));
+		created.subQuests().forEach(subQuest -> usersSubQuestService.doSubQuest(user.id(),
+			new SubQuestLogDto(subQuest.id(), DifficultyType.NORMAL, null)));
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		List<QuestHistoryByDateDto> history = usersSubQuestService.getSubQuestsLogs(user.id(), created.id(), null, 30);
+
+		assertThat(history).singleElement().satisfies(day -> {
+			assertThat(day.date()).isEqualTo(LocalDate.now());
+			assertThat(day.logs()).hasSize(2);
+		});
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+		// 마지막 날짜를 before로 넘기면 더 이전 기록이 없으므로 빈 페이지다.
+		assertThat(usersSubQuestService.getSubQuestsLogs(user.id(), created.id(), LocalDate.now(), 30)).isEmpty();
+	}
+}
@@ -0,0 +1,149 @@
+package com.statoverflow.status.domain.quest.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.statoverflow.status.domain.quest.dto.SubQuestLogDto;
+import com.statoverflow.status.domain.quest.dto.request.CreateQuestRequestDto;
+import com.statoverflow.status.domain.quest.dto.response.RewardResponseDto;
+import com.statoverflow.status.domain.quest.dto.response.CreateQuestResponseDto;
+import com.statoverflow.status.domain.quest.entity.UsersSubQuest;
+import com.statoverflow.status.domain.quest.entity.UsersSubQuestLog;
+import com.statoverflow.status.domain.quest.enums.DifficultyType;
+import com.statoverflow.status.domain.quest.enums.FrequencyType;
+import com.statoverflow.status.domain.quest.enums.QuestStatus;
+import com.statoverflow.status.domain.quest.repository.UsersSubQuestLogRepository;
+import com.statoverflow.status.domain.quest.repository.UsersSubQuestRepository;
+import com.statoverflow.status.domain.quest.service.interfaces.UsersMainQuestService;
+import com.statoverflow.status.domain.quest.service.interfaces.UsersSubQuestService;
+import com.statoverflow.status.domain.users.dto.BasicUsersDto;
+import com.statoverflow.status.domain.users.service.UsersService;
+import com.statoverflow.status.global.exception.CustomException;
+
+@SpringBootTest
+class SubQuestLogCounterTest {
+
+	@Autowired
+	private UsersMainQuestService usersMainQuestService;
+
+	@Autowired
+	private UsersSubQuestService usersSubQuestService;
+
+	@Autowired
+	private UsersService usersService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private UsersSubQuestRepository usersSubQuestRepository;
+
+	@Autowired
+	private UsersSubQuestLogRepository usersSubQuestLogRepository;
+
+	@Autowired
+	private SubQuestCounterReconciliationService subQuestCounterReconciliationService;
+
+	private QuestFixture fixture;
+
+	@BeforeEach
+	void setUp() {
+		fixture = new QuestFixture(usersService, usersMainQuestService, jdbcTemplate);
+	}
+
+	@AfterEach
+	void tearDown() {
+		fixture.cleanUp();
+	}
+
+	@Test
+	void 서브_퀘스트_수행_시_누적_및_현재_주기_카운터가_증가한다() {
+		BasicUsersDto user = fixture.signUp();
+		CreateQuestResponseDto created = fixture.createQuest(user.id(), 1001L, FrequencyType.WEEKLY_3, 2);
+		Long subQuestId = created.subQuests().get(0).id();
+
+		usersSubQuestService.doSubQuest(user.id(), new SubQuestLogDto(subQuestId, DifficultyType.NORMAL, null));
+
+		UsersSubQuest subQuest = usersSubQuestRepository.findById(subQuestId).orElseThrow();
+		assertThat(subQuest.getCompletedLogCount()).isEqualTo(1);
+		assertThat(subQuest.getCurrentPeriodCount()).isEqualTo(1);
+		assertThat(subQuest.getPeriodStart()).isEqualTo(LocalDate.now());
+
+		// 로그 테이블과 일치하므로 정합성 점검 후에도 그대로다.
+		subQuestCounterReconciliationService.reconcile();
+		UsersSubQuest reconciled = usersSubQuestRepository.findById(subQuestId).orElseThrow();
+		assertThat(reconciled.getCompletedLogCount()).isEqualTo(1);
+		assertThat(reconciled.getCurrentPeriodCount()).isEqualTo(1);
+	}
+
+	@Test
+	void 같은_날의_로그가_여러_건이어도_정합성_점검은_하루로_센다() {
+		BasicUsersDto user = fixture.signUp();
+		CreateQuestResponseDto created = fixture.createQuest(user.id(), 1001L, FrequencyType.WEEKLY_3, 2);
+		Long subQuestId = created.subQuests().get(0).id();
+		usersSubQuestService.doSubQuest(user.id(), new SubQuestLogDto(subQuestId, DifficultyType.NORMAL, null));
+
+		UsersSubQuest subQuest = usersSubQuestRepository.findById(subQuestId).orElseThrow();
+		usersSubQuestLogRepository.save(UsersSubQuestLog.builder()
+			.usersSubQuest(subQuest)
+			.difficulty(DifficultyType.NORMAL)
+			.build());
+
+		assertThat(subQuestCounterReconciliationService.reconcile(user.id() - 1, user.id())).isZero();
+		UsersSubQuest reconciled = usersSubQuestRepository.findById(subQuestId).orElseThrow();
+		assertThat(reconciled.getCompletedLogCount()).isEqualTo(1);
+		assertThat(reconciled.getCurrentPeriodCount()).isEqualTo(1);
+		assertThat(reconciled.completionBitmap().count()).isEqualTo(1);
+	}
+
+	@Test
+	void 모든_서브_퀘스트가_충족되는_수행에서_메인_퀘스트가_완료된다() {
+		BasicUsersDto user = fixture.signUp();
+		CreateQuestResponseDto created = fixture.createQuest(user.id(), 1001L,
+			LocalDate.now(), LocalDate.now().plusWeeks(2),
+			List.of(
+				new CreateQuestRequestDto.SubQuestInfo(10001L, FrequencyType.MONTHLY_1, 1),
+				new CreateQuestRequestDto.SubQuestInfo(10002L, FrequencyType.MONTHLY_1, 1)));
+		Long firstId = created.subQuests().get(0).id();
+		Long secondId = created.subQuests().get(1).id();
+
+		RewardResponseDto first = usersSubQuestService.doSubQuest(user.id(),
+			new SubQuestLogDto(firstId, DifficultyType.NORMAL, null));
+		RewardResponseDto second = usersSubQuestService.doSubQuest(user.id(),
+			new SubQuestLogDto(secondId, DifficultyType.NORMAL, null));
+
+		assertThat(first.isMainQuestCompleted()).isFalse();
+		assertThat(second.isMainQuestCompleted()).isTrue();
+		assertThat(usersSubQuestRepository.findById(firstId).orElseThrow().getSatisfied()).isTrue();
+		assertThat(usersSubQuestRepository.findById(secondId).orElseThrow().getSatisfied()).isTrue();
+	}
+
+	@Test
+	void 오늘_수행한_서브_퀘스트는_상태를_바꾸지_않고_다음_날_다시_수행_가능해진다() {
+		BasicUsersDto user = fixture.signUp();
+		CreateQuestResponseDto created = fixture.createQuest(user.id(), 1002L, FrequencyType.WEEKLY_3, 2);
+		Long subQuestId = created.subQuests().get(0).id();
+		SubQuestLogDto logDto = new SubQuestLogDto(subQuestId, DifficultyType.NORMAL, null);
+
+		usersSubQuestService.doSubQuest(user.id(), logDto);
+
+		assertThat(usersSubQuestService.getTodaySubQuests(user.id())).isEmpty();
+		assertThatThrownBy(() -> usersSubQuestService.doSubQuest(user.id(), logDto))
+			.isInstanceOf(CustomException.class);
+
+		UsersSubQuest subQuest = usersSubQuestRepository.findWithMainQuestByUsersIdAndStatus(user.id(),
+			QuestStatus.ACTIVE).get(0);
+		assertThat(subQuest.getCompletedLogCount()).isEqualTo(1);
+		assertThat(subQuest.statusOn(LocalDate.now())).isEqualTo(QuestStatus.ACCOMPLISHED);
+		assertThat(subQuest.statusOn(LocalDate.now().plusDays(1))).isEqualTo(QuestStatus.ACTIVE);
+	}
+}
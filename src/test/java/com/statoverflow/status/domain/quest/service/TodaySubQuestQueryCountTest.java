@@ -0,0 +1,65 @@
+package com.statoverflow.status.domain.quest.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.statoverflow.status.domain.quest.enums.FrequencyType;
+import com.statoverflow.status.domain.quest.service.interfaces.UsersMainQuestService;
+import com.statoverflow.status.domain.quest.service.interfaces.UsersSubQuestService;
+import com.statoverflow.status.domain.users.dto.BasicUsersDto;
+import com.statoverflow.status.domain.users.service.UsersService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TodaySubQuestQueryCountTest {
+
+	@Autowired
+	private UsersMainQuestService usersMainQuestService;
+
+	@Autowired
+	private UsersSubQuestService usersSubQuestService;
+
+	@Autowired
+	private UsersService usersService;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private QuestFixture fixture;
+
+	@BeforeEach
+	void setUp() {
+		fixture = new QuestFixture(usersService, usersMainQuestService, jdbcTemplate);
+	}
+
+	@AfterEach
+	void tearDown() {
+		fixture.cleanUp();
+	}
+
+	@Test
+	void 오늘의_서브_퀘스트_조회는_퀘스트_수와_무관하게_한_번의_쿼리로_끝난다() {
+		BasicUsersDto user = fixture.signUp();
+		fixture.createQuests(user.id(), FrequencyType.WEEKLY_3);
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		assertThat(usersSubQuestService.getTodaySubQuests(user.id())).hasSize(3);
+
+		// 서브 퀘스트(메인 퀘스트/속성 fetch join) 1회, 주기별 수행 횟수는 서브 퀘스트 카운터 컬럼에서 읽음
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+}
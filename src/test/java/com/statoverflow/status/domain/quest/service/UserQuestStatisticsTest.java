@@ -0,0 +1,76 @@
+package com.statoverflow.status.domain.quest.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.statoverflow.status.domain.quest.dto.request.CreateQuestRequestDto;
+import com.statoverflow.status.domain.quest.dto.response.CreateQuestResponseDto;
+import com.statoverflow.status.domain.quest.dto.response.UserQuestStatisticsDto;
+import com.statoverflow.status.domain.quest.enums.FrequencyType;
+import com.statoverflow.status.domain.quest.service.interfaces.UsersMainQuestService;
+import com.statoverflow.status.domain.users.dto.BasicUsersDto;
+import com.statoverflow.status.domain.users.service.UsersService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class UserQuestStatisticsTest {
+
+	@Autowired
+	private UsersMainQuestService usersMainQuestService;
+
+	@Autowired
+	private UsersQuestStatisticsService usersQuestStatisticsService;
+
+	@Autowired
+	private UsersService usersService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private QuestFixture fixture;
+
+	@BeforeEach
+	void setUp() {
+		fixture = new QuestFixture(usersService, usersMainQuestService, jdbcTemplate);
+	}
+
+	@AfterEach
+	void tearDown() {
+		fixture.cleanUp();
+	}
+
+	@Test
+	void 재계산한_누적_기록은_기본_키_단건_조회로_읽는다() {
+		BasicUsersDto user = fixture.signUp();
+		CreateQuestResponseDto created = fixture.createQuest(user.id(), 1001L,
+			LocalDate.now().minusDays(14), LocalDate.now().minusDays(1),
+			List.of(new CreateQuestRequestDto.SubQuestInfo(10001L, FrequencyType.DAILY, 1)));
+		jdbcTemplate.update("UPDATE users_main_quest SET status = 'FAILED' WHERE id = ?", created.id());
+
+		usersQuestStatisticsService.rebuild();
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		UserQuestStatisticsDto result = usersMainQuestService.getUserStatistics(user.id());
+
+		// 실패한 14일짜리 퀘스트 1건, 수행 기록 없음
+		assertThat(result).isEqualTo(new UserQuestStatisticsDto(1, 0, 0, 14));
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+	}
+}
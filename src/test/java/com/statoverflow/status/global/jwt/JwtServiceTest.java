@@ -0,0 +1,71 @@
+package com.statoverflow.status.global.jwt;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.statoverflow.status.domain.master.enums.Tier;
+import com.statoverflow.status.domain.users.dto.BasicUsersDto;
+import com.statoverflow.status.domain.users.dto.TierDto;
+import com.statoverflow.status.domain.users.enums.ProviderType;
+
+import io.jsonwebtoken.Claims;
+
+class JwtServiceTest {
+
+	private JwtService jwtService;
+
+	@BeforeEach
+	void setUp() {
+		// 저장소 의존성 없이 생성되므로 토큰 해석 경로에서 SQL이 발생할 수 없다.
+		jwtService = new JwtService();
+		ReflectionTestUtils.setField(jwtService, "secret", "test-secret-key-for-jwt-service-unit-test-0123456789");
+		ReflectionTestUtils.setField(jwtService, "accessTokenExpirationMs", 60_000L);
+		ReflectionTestUtils.setField(jwtService, "refreshTokenExpirationMs", 120_000L);
+		jwtService.init();
+	}
+
+	@Test
+	void 액세스_토큰의_티어_클레임으로_사용자를_복원한다() {
+		BasicUsersDto user = new BasicUsersDto(7L, "닉네임", ProviderType.LoginType.SOCIAL, new TierDto(Tier.SILVER, 3));
+
+		BasicUsersDto parsed = jwtService.parseUsersFromToken(jwtService.generateAccessToken(user));
+
+		assertThat(parsed.id()).isEqualTo(7L);
+		assertThat(parsed.nickname()).isEqualTo("닉네임");
+		assertThat(parsed.tier()).isEqualTo(new TierDto(Tier.SILVER, 3));
+	}
+
+	@Test
+	void 티어_클레임이_없는_토큰은_티어를_비워둔다() {
+		BasicUsersDto user = new BasicUsersDto(7L, "닉네임", ProviderType.LoginType.SOCIAL, new TierDto(Tier.SILVER, 3));
+
+		BasicUsersDto parsed = jwtService.parseUsersFromToken(jwtService.generateRefreshToken(user));
+
+		assertThat(parsed.tier()).isNull();
+	}
+
+	@Test
+	void 검증된_토큰은_캐시된_Claims를_재사용한다() {
+		BasicUsersDto user = new BasicUsersDto(7L, "닉네임", ProviderType.LoginType.SOCIAL, new TierDto(Tier.SILVER, 3));
+		String token = jwtService.generateAccessToken(user);
+
+		Claims first = jwtService.verifyToken(token);
+		Claims second = jwtService.verifyToken(token);
+
+		assertThat(first).isNotNull();
+		assertThat(second).isSameAs(first);
+	}
+
+	@Test
+	void 변조된_토큰은_검증에_실패한다() {
+		BasicUsersDto user = new BasicUsersDto(7L, "닉네임", ProviderType.LoginType.SOCIAL, new TierDto(Tier.SILVER, 3));
+		String token = jwtService.generateAccessToken(user);
+		String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+		assertThat(jwtService.verifyToken(tampered)).isNull();
+		assertThat(jwtService.validateToken(tampered)).isFalse();
+	}
+}
@@ -0,0 +1,59 @@
+package com.statoverflow.status.global.jwt;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+
+class VerifiedClaimsCacheTest {
+
+	private static final long NOW = 1_000_000L;
+
+	@Test
+	void 가득_찬_캐시에도_새_항목을_저장하고_크기를_넘지_않는다() {
+		VerifiedClaimsCache cache = new VerifiedClaimsCache(3, 60_000L);
+		for (int i = 0; i < 3; i++) {
+			cache.put("digest-" + i, claims(i), NOW);
+		}
+
+		Claims latest = claims(3);
+		cache.put("digest-3", latest, NOW);
+
+		assertThat(cache.size()).isEqualTo(3);
+		assertThat(cache.get("digest-3", NOW)).isSameAs(latest);
+	}
+
+	@Test
+	void 이미_있는_키는_다른_항목을_내보내지_않고_갱신한다() {
+		VerifiedClaimsCache cache = new VerifiedClaimsCache(2, 60_000L);
+		Claims first = claims(0);
+		cache.put("digest-0", first, NOW);
+		cache.put("digest-1", claims(1), NOW);
+
+		Claims renewed = claims(1);
+		cache.put("digest-1", renewed, NOW);
+
+		assertThat(cache.get("digest-0", NOW)).isSameAs(first);
+		assertThat(cache.get("digest-1", NOW)).isSameAs(renewed);
+	}
+
+	@Test
+	void 만료된_항목은_반환하지_않는다() {
+		VerifiedClaimsCache cache = new VerifiedClaimsCache(2, 1_000L);
+		cache.put("digest-0", claims(0), NOW);
+
+		assertThat(cache.get("digest-0", NOW + 1_000L)).isNull();
+		assertThat(cache.size()).isZero();
+	}
+
+	private static Claims claims(int id) {
+		return Jwts.claims()
+			.subject(String.valueOf(id))
+			.expiration(new Date(NOW + 3_600_000L))
+			.build();
+	}
+}
@@ -0,0 +1,113 @@
+package com.statoverflow.status.global.lock;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.statoverflow.status.domain.users.repository.UsersRepository;
+
+@SpringBootTest
+class PartitionedJobRunnerTest {
+
+	private static final long PARTITION_SIZE = 10;
+	private static final long CHUNK_USERS = 3;
+
+	@Autowired
+	private RedisLeaseLock redisLeaseLock;
+
+	@Autowired
+	private RedisTemplate<String, String> redisTemplate;
+
+	@Autowired
+	private UsersRepository usersRepository;
+
+	@Test
+	void 여러_노드가_사용자_구간을_겹치지_않게_나누어_처리한다() throws Exception {
+		String runKey = UUID.randomUUID().toString();
+		Queue<long[]> ranges = new ConcurrentLinkedQueue<>();
+		PartitionedJobRunner.UserRangeTask task = (fromUserId, toUserId) -> {
+			ranges.add(new long[] {fromUserId, toUserId});
+			return 1;
+		};
+
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		List<Future<PartitionedJobRunner.Result>> futures = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			PartitionedJobRunner node = newNode();
+			futures.add(executor.submit(() -> node.run("test", runKey, task)));
+		}
+
+		int partitions = 0;
+		int totalPartitions = 0;
+		for (Future<PartitionedJobRunner.Result> future : futures) {
+			PartitionedJobRunner.Result result = future.get();
+			partitions += result.partitions();
+			totalPartitions = result.totalPartitions();
+		}
+		executor.shutdown();
+
+		assertThat(partitions).isEqualTo(totalPartitions);
+		assertContiguous(ranges, 0L, totalPartitions * PARTITION_SIZE);
+	}
+
+	@Test
+	void 임대가_만료된_파티션은_재실행에서_체크포인트부터_이어서_처리한다() throws Exception {
+		String runKey = UUID.randomUUID().toString();
+		String runPrefix = PartitionedJobRunner.KEY_PREFIX + "test:" + runKey;
+		// 파티션 0을 처리하던 노드가 사용자 ID 5까지 처리하고 죽은 상황
+		redisLeaseLock.tryAcquire(runPrefix + ":lock:0", Duration.ofMillis(300)).orElseThrow();
+		redisTemplate.opsForValue().set(runPrefix + ":checkpoint:0", "5", Duration.ofMinutes(1));
+
+		Queue<long[]> ranges = new ConcurrentLinkedQueue<>();
+		PartitionedJobRunner.UserRangeTask task = (fromUserId, toUserId) -> {
+			ranges.add(new long[] {fromUserId, toUserId});
+			return 1;
+		};
+		PartitionedJobRunner node = newNode();
+
+		// 임대 중인 파티션은 기다리지 않고 건너뛴다.
+		PartitionedJobRunner.Result first = node.run("test", runKey, task);
+		assertThat(first.partitions()).isEqualTo(first.totalPartitions() - 1);
+
+		// 임대가 만료된 뒤 미완료 실행의 재시도가 체크포인트부터 이어서 처리한다.
+		Thread.sleep(500);
+		node.resumeUnfinished();
+		assertThat(redisTemplate.opsForSet().size(runPrefix + ":done")).isEqualTo(first.totalPartitions());
+		assertContiguous(ranges, 5L, first.totalPartitions() * PARTITION_SIZE);
+	}
+
+	private PartitionedJobRunner newNode() {
+		PartitionedJobRunner node = new PartitionedJobRunner(redisLeaseLock, redisTemplate, usersRepository);
+		ReflectionTestUtils.setField(node, "partitionSize", PARTITION_SIZE);
+		ReflectionTestUtils.setField(node, "chunkUsers", CHUNK_USERS);
+		ReflectionTestUtils.setField(node, "leaseMs", 1_000L);
+		ReflectionTestUtils.setField(node, "catchUpWindowMs", 60_000L);
+		return node;
+	}
+
+	// 처리한 (from, to] 구간들이 빈틈과 중복 없이 [start, end]를 덮는지 확인
+	private void assertContiguous(Queue<long[]> ranges, long start, long end) {
+		List<long[]> sorted = ranges.stream().sorted(Comparator.comparingLong(range -> range[0])).toList();
+		long cursor = start;
+		for (long[] range : sorted) {
+			assertThat(range[0]).isEqualTo(cursor);
+			cursor = range[1];
+		}
+		assertThat(cursor).isEqualTo(end);
+	}
+}